@@ -0,0 +1,35 @@
+package ethan.cincuentazo.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de los benchmarks. Acepta los mismos argumentos que la línea de
+ * comandos de JMH y agrega siempre el perfilador de GC, para que cada corrida informe
+ * el rendimiento y la tasa de asignación de memoria (`gc.alloc.rate.norm`).
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Ejecuta los benchmarks seleccionados.
+     *
+     * @param args Los argumentos de JMH (por ejemplo, una expresión regular de benchmarks).
+     * @throws RunnerException Si JMH no puede ejecutar los benchmarks.
+     * @throws CommandLineOptionException Si los argumentos no son válidos.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,43 @@
+package ethan.cincuentazo.benchmarks;
+
+import ethan.cincuentazo.model.Card;
+import ethan.cincuentazo.model.CardCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de obtención de cartas. Desde que las cartas son compartidas, "crear"
+ * una carta es buscarla en el catálogo; el valor ya viene precalculado de las tablas
+ * de `RuleSet.STANDARD`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+
+    private String name = "A";
+    private String suit = "Picas";
+    private int ordinal = 38;
+
+    @Benchmark
+    public Card lookupByName() {
+        return CardCatalog.of(name, suit);
+    }
+
+    @Benchmark
+    public int lookupValueByOrdinal() {
+        return CardCatalog.get(ordinal).getValue();
+    }
+}
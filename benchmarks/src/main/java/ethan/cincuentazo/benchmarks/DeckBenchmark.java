@@ -0,0 +1,63 @@
+package ethan.cincuentazo.benchmarks;
+
+import ethan.cincuentazo.model.Card;
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.Deck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks del mazo: construcción, barajado y robo de cartas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    private SplittableRandom random;
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        random = new SplittableRandom(50);
+        deck = new Deck(random);
+    }
+
+    @Benchmark
+    public Deck construct() {
+        return new Deck(random);
+    }
+
+    @Benchmark
+    public Deck resetAndShuffle() {
+        deck.reset();
+        deck.shuffle();
+        return deck;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CardCatalog.SIZE)
+    public void drawCard(Blackhole blackhole) {
+        deck.reset();
+        while (deck.hasCards()) {
+            Card card = deck.drawCard();
+            blackhole.consume(card);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ethan.cincuentazo.benchmarks;
+
+import ethan.cincuentazo.model.CincuentazoGame;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de partidas completas a través de `CincuentazoGame`. Informa partidas
+ * por milisegundo y, como contador auxiliar, las jugadas aplicadas. Como en la
+ * simulación, cada partida se corta a las `MAX_TURNS` jugadas para que un reparto que
+ * no termina no cuelgue la medición.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    private static final int MAX_TURNS = 10_000;  // El mismo tope que `MonteCarloSimulation`
+
+    private CincuentazoGame game;
+
+    @Setup
+    public void setUp() {
+        game = new CincuentazoGame(new SplittableRandom(50));
+    }
+
+    /**
+     * Contador de jugadas, reiniciado en cada iteración.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Turns {
+        public long turns;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            turns = 0;
+        }
+    }
+
+    @Benchmark
+    public CincuentazoGame fullGame(Turns counter) {
+        game.resetGame();
+        while (!game.checkGameOver() && game.getTurnCount() < MAX_TURNS) {
+            if (game.isPlayerTurn()) {
+                game.applyPlayerMove(game.getPlayer().firstPlayableIndex(game.getTableSum()));
+            } else {
+                game.applyComputerMove();
+            }
+        }
+        counter.turns += game.getTurnCount();
+        return game;
+    }
+}
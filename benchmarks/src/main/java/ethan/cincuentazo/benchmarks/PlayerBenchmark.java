@@ -0,0 +1,60 @@
+package ethan.cincuentazo.benchmarks;
+
+import ethan.cincuentazo.model.Card;
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.Player;
+import ethan.cincuentazo.model.RuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la mano del jugador: jugar una carta y la verificación de
+ * eliminación que hace `CincuentazoGame` con las reglas de la mesa después de cada jugada.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    private Player player;
+    private int tableSum = 45;
+
+    @Setup
+    public void setUp() {
+        player = new Player("Bench");
+        fillHand();
+    }
+
+    private void fillHand() {
+        player.addCard(CardCatalog.of("8", "Picas"));
+        player.addCard(CardCatalog.of("10", "Treboles"));
+        player.addCard(CardCatalog.of("7", "Corazones"));
+        player.addCard(CardCatalog.of("6", "Diamantes"));
+    }
+
+    @Benchmark
+    public Card playCardAndRefill() {
+        // Se devuelve la misma carta: la mano sigue teniendo cuatro cartas distintas
+        Card card = player.playCard(1);
+        player.addCard(card);
+        return card;
+    }
+
+    @Benchmark
+    public boolean eliminatedCheck() {
+        return !player.canPlay(tableSum, RuleSet.STANDARD);
+    }
+}
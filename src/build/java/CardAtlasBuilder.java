@@ -0,0 +1,143 @@
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+/**
+ * Genera el atlas de las cartas durante la compilación.
+ *
+ * Lee las 52 caras y la parte trasera en resolución completa y las reduce a celdas de
+ * 89x118 (el tamaño de las cartas en el tablero) en `cards.png`, y a celdas de 178x236 en
+ * `cards@2x.png` para pantallas de alta densidad y para la carta de la mesa. El índice
+ * `cards.idx` indica el tamaño de la celda y la posición de cada imagen, así que el juego
+ * no depende del orden en que se dibujaron. Las caras se estiran a la celda, igual que
+ * las vistas del tablero estiran la imagen a su tamaño.
+ *
+ * Si el atlas ya es más nuevo que todas las imágenes no se vuelve a generar. Maven lo
+ * deja en `.cache/atlas`, fuera de `target`, para que `mvn clean` no obligue a generarlo
+ * de nuevo.
+ *
+ * Se ejecuta como programa de un solo archivo, sin compilarlo antes:
+ * `java src/build/java/CardAtlasBuilder.java <carpeta de imágenes> <carpeta de salida>`.
+ * Maven lo llama en la fase `generate-resources`.
+ */
+public class CardAtlasBuilder {
+
+    private static final String[] SUITS = {"Corazones", "Diamantes", "Treboles", "Picas"};
+    private static final String[] RANKS = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+    private static final String BACK = "back";
+    private static final int CELL_WIDTH = 89;  // Ancho de las cartas en GameBoard.fxml
+    private static final int CELL_HEIGHT = 118;  // Alto de las cartas en GameBoard.fxml
+    private static final int COLUMNS = 8;  // 53 imágenes en 8 columnas y 7 filas
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: java CardAtlasBuilder.java <carpeta de imágenes> <carpeta de salida>");
+            System.exit(2);
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        Files.createDirectories(output);
+
+        String[] names = new String[SUITS.length * RANKS.length + 1];
+        int count = 0;
+        for (String suit : SUITS) {
+            for (String rank : RANKS) {
+                names[count++] = rank + suit;
+            }
+        }
+        names[count++] = BACK;
+        if (isUpToDate(input, output, names)) {
+            System.out.println("El atlas de las cartas está al día");
+            return;
+        }
+
+        int rows = (count + COLUMNS - 1) / COLUMNS;
+        BufferedImage standard = new BufferedImage(COLUMNS * CELL_WIDTH, rows * CELL_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage hiDpi = new BufferedImage(COLUMNS * CELL_WIDTH * 2, rows * CELL_HEIGHT * 2, BufferedImage.TYPE_INT_ARGB);
+        // Decodificar y reducir las caras es casi todo el trabajo: se hace en paralelo y el
+        // atlas se dibuja después en un solo hilo
+        BufferedImage[] large = new BufferedImage[count];
+        try {
+            IntStream.range(0, count).parallel().forEach(i -> {
+                Path file = input.resolve(names[i] + ".png");
+                try {
+                    BufferedImage source = ImageIO.read(file.toFile());
+                    if (source == null) {
+                        throw new IOException("No se pudo leer " + file);
+                    }
+                    large[i] = scale(source, CELL_WIDTH * 2, CELL_HEIGHT * 2);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        try (Writer index = Files.newBufferedWriter(output.resolve("cards.idx"), StandardCharsets.UTF_8)) {
+            index.write("# Atlas de las cartas generado por CardAtlasBuilder; no editar\n");
+            index.write("cell " + CELL_WIDTH + " " + CELL_HEIGHT + "\n");
+            for (int i = 0; i < count; i++) {
+                int x = (i % COLUMNS) * CELL_WIDTH;
+                int y = (i / COLUMNS) * CELL_HEIGHT;
+                draw(hiDpi, large[i], x * 2, y * 2);
+                draw(standard, scale(large[i], CELL_WIDTH, CELL_HEIGHT), x, y);
+                index.write(names[i] + " " + x + " " + y + "\n");
+            }
+        }
+        ImageIO.write(standard, "png", output.resolve("cards.png").toFile());
+        ImageIO.write(hiDpi, "png", output.resolve("cards@2x.png").toFile());
+        System.out.println("Atlas de " + count + " cartas en " + output);
+    }
+
+    // El atlas está al día si sus tres archivos son más nuevos que todas las imágenes
+    private static boolean isUpToDate(Path input, Path output, String[] names) throws IOException {
+        long built = Long.MAX_VALUE;
+        for (String file : new String[] {"cards.idx", "cards.png", "cards@2x.png"}) {
+            Path path = output.resolve(file);
+            if (!Files.exists(path)) {
+                return false;
+            }
+            built = Math.min(built, Files.getLastModifiedTime(path).toMillis());
+        }
+        for (String name : names) {
+            if (Files.getLastModifiedTime(input.resolve(name + ".png")).toMillis() > built) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Reduce la imagen a la mitad en cada paso hasta llegar al tamaño pedido; un solo paso bilineal perdería detalle
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    // Copia una imagen ya escalada en su celda del atlas
+    private static void draw(BufferedImage atlas, BufferedImage image, int x, int y) {
+        Graphics2D graphics = atlas.createGraphics();
+        graphics.drawImage(image, x, y, null);
+        graphics.dispose();
+    }
+}
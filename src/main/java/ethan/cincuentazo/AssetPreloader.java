@@ -0,0 +1,71 @@
+package ethan.cincuentazo;
+
+import ethan.cincuentazo.controllers.CardImageCache;
+import javafx.concurrent.Task;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+/**
+ * Tarea de fondo que prepara una vista mientras el usuario está en el menú: decodifica
+ * las imágenes de las cartas y carga el FXML con su controlador.
+ *
+ * JavaFX permite construir nodos fuera de su hilo mientras no formen parte de una escena
+ * visible, así que al pulsar "Iniciar Juego" solo queda poner la vista en la escena. El
+ * progreso y el mensaje de la tarea se pueden enlazar a la interfaz del menú.
+ */
+public class AssetPreloader extends Task<AssetPreloader.View> {
+
+    private static final int STEPS = 3;  // Cartas de la mano, carta de la mesa y vista
+
+    /**
+     * Una vista ya cargada.
+     *
+     * @param root La raíz de la vista.
+     * @param controller El controlador de la vista.
+     */
+    public record View(Parent root, Object controller) {
+    }
+
+    private final String fxml;  // Vista a cargar, en /fxml
+
+    /**
+     * Crea la tarea de precarga.
+     *
+     * @param fxml El nombre del archivo FXML de la vista a cargar.
+     */
+    public AssetPreloader(String fxml) {
+        this.fxml = fxml;
+    }
+
+    /**
+     * Arranca la tarea en un hilo de fondo, que no impide que la aplicación termine.
+     *
+     * @return Esta tarea.
+     */
+    public AssetPreloader start() {
+        Thread.ofPlatform().daemon().name("asset-preloader").start(this);
+        return this;
+    }
+
+    @Override
+    protected View call() throws Exception {
+        updateMessage("Cargando cartas...");
+        updateProgress(0, STEPS);
+        CardImageCache.HAND.preloadAll();
+        updateProgress(1, STEPS);
+        CardImageCache.TABLE.preloadAll();
+        updateProgress(2, STEPS);
+
+        updateMessage("Preparando el tablero...");
+        FXMLLoader loader = new FXMLLoader(AssetPreloader.class.getResource("/fxml/" + fxml));
+        Parent root = loader.load();
+        updateProgress(STEPS, STEPS);
+        updateMessage("Listo");
+        return new View(root, loader.getController());
+    }
+
+    @Override
+    protected void failed() {
+        System.out.println("No se pudo precargar " + fxml + ": " + getException());
+    }
+}
@@ -1,44 +1,95 @@
 package ethan.cincuentazo;
 
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
+import javafx.concurrent.Worker;
 import javafx.stage.Stage;
 
+import java.util.function.Consumer;
+
 public class Main extends Application {
-    private static Stage mainStage;
+    private static final String GAME_BOARD = "GameBoard.fxml";
+
+    private static ViewManager views;  // Vistas cargadas y la única escena de la ventana
+    private static AssetPreloader preloader;  // Precarga del tablero en curso o terminada
 
     /**
      * Método que inicia la aplicación JavaFX. Este método es invocado
      * cuando la aplicación es lanzada, y establece la escena inicial
-     * cargando el archivo FXML de la vista principal.
+     * cargando el archivo FXML de la vista principal. El tablero se
+     * empieza a preparar en segundo plano mientras se muestra el menú.
      *
      * @param primaryStage El escenario principal donde se mostrará la interfaz.
      * @throws Exception Si ocurre un error al cargar el archivo FXML.
      */
     @Override
     public void start(Stage primaryStage) throws Exception {
-        mainStage = primaryStage;
+        StartupTimer.mark("start");
+        views = new ViewManager(primaryStage);
+        preloader = new AssetPreloader(GAME_BOARD).start();
         loadView("MenuPrincipal.fxml");
+        StartupTimer.mark("menú cargado");
+        StartupTimer.awaitFirstFrame(primaryStage.getScene());
     }
 
     /**
-     * Método estático que carga y muestra una nueva vista FXML en la escena.
-     * Este método se utiliza para cambiar entre diferentes vistas en la aplicación.
+     * Método estático que muestra una vista FXML en la escena. Cada vista se carga
+     * la primera vez que se muestra y después se reutiliza con su controlador.
      *
-     * @param fxml El nombre del archivo FXML que define la vista a cargar.
+     * @param fxml El nombre del archivo FXML que define la vista a mostrar.
+     * @param <T> El tipo del controlador de la vista.
+     * @return El controlador de la vista, o `null` si no se pudo cargar.
      */
-    public static void loadView(String fxml) {
+    public static <T> T loadView(String fxml) {
         try {
-            // Cargar el archivo FXML y establecer la nueva escena en el escenario
-            Parent root = FXMLLoader.load(Main.class.getResource("/fxml/" + fxml));
-            mainStage.setScene(new Scene(root));
-            mainStage.show();
+            return views.show(fxml);
         } catch (Exception e) {
             // Imprimir el error en caso de que ocurra alguna excepción
             e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Muestra el tablero y entrega su controlador. La primera vez usa el precargado; si
+     * todavía se está preparando, lo muestra cuando termine sin bloquear el hilo de
+     * JavaFX, y si falló, lo carga aquí. Si se pide otra vez mientras se espera, solo se
+     * atiende el último pedido.
+     *
+     * @param onShown Recibe el controlador del tablero una vez que está en la escena.
+     * @param <T> El tipo del controlador del tablero.
+     */
+    public static <T> void loadGameBoard(Consumer<T> onShown) {
+        // El estado de la tarea cambia en el hilo de JavaFX; `isDone` se adelanta a ese cambio
+        if (preloader != null && !isFinished(preloader.getState())) {
+            preloader.setOnSucceeded(event -> loadGameBoard(onShown));
+            preloader.setOnFailed(event -> loadGameBoard(onShown));  // El motivo ya se informó al fallar
+            preloader.setOnCancelled(event -> loadGameBoard(onShown));
+            return;
+        }
+        if (preloader != null) {
+            if (preloader.getState() == Worker.State.SUCCEEDED) {
+                views.put(GAME_BOARD, preloader.getValue());
+            }
+            preloader = null;  // Ya no hace falta: el tablero se reutiliza
         }
+        T controller = loadView(GAME_BOARD);
+        if (controller != null) {
+            onShown.accept(controller);
+        }
+    }
+
+    // Indica si la tarea ya terminó, bien o mal
+    private static boolean isFinished(Worker.State state) {
+        return state == Worker.State.SUCCEEDED || state == Worker.State.FAILED || state == Worker.State.CANCELLED;
+    }
+
+    /**
+     * Obtiene la precarga del tablero, para mostrar su progreso.
+     *
+     * @return La precarga en curso o terminada, o `null` si no hay.
+     */
+    public static AssetPreloader getPreloader() {
+        return preloader;
     }
 
     /**
@@ -48,6 +99,7 @@ public class Main extends Application {
      * @param args Argumentos que se pasan a la aplicación al iniciarla.
      */
     public static void main(String[] args) {
+        StartupTimer.mark("main");
         launch(args);
     }
 }
@@ -0,0 +1,104 @@
+package ethan.cincuentazo;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mide el arranque en frío, desde que arranca la JVM hasta el primer cuadro del menú.
+ *
+ * Cada etapa del arranque se marca con `mark`; el primer cuadro se marca al terminar el
+ * primer pulso de JavaFX con la escena del menú. El tiempo hasta el primer cuadro se
+ * compara con el objetivo documentado en el README (`DEFAULT_BUDGET_MILLIS`, o la propiedad
+ * `cincuentazo.startup.budget`). Propiedades:
+ * <ul>
+ *     <li>`cincuentazo.startup.report=true`: imprime las etapas al llegar al primer cuadro.</li>
+ *     <li>`cincuentazo.startup.exit=true`: además, cierra la aplicación al llegar al primer
+ *         cuadro, con estado 1 si se superó el objetivo. Sirve para comprobar el objetivo y
+ *         para generar el archivo CDS con una ejecución de entrenamiento.</li>
+ * </ul>
+ * Si se supera el objetivo siempre se imprime un aviso con las etapas.
+ */
+public final class StartupTimer {
+
+    /** Objetivo de tiempo hasta el primer cuadro del menú, en milisegundos. */
+    public static final long DEFAULT_BUDGET_MILLIS = 1500;
+
+    private static final long BUDGET_MILLIS = Long.getLong("cincuentazo.startup.budget", DEFAULT_BUDGET_MILLIS);
+    private static final boolean REPORT = Boolean.getBoolean("cincuentazo.startup.report");
+    private static final boolean EXIT = Boolean.getBoolean("cincuentazo.startup.exit");
+
+    // Inicio del proceso según el sistema operativo; con la resolución del reloj del sistema
+    private static final long JVM_START_MILLIS = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElse(System.currentTimeMillis());
+
+    private static final List<String> names = new ArrayList<>();  // Etapas marcadas, en orden
+    private static final List<Long> times = new ArrayList<>();  // Momento de cada etapa
+    private static boolean finished;  // Ya se llegó al primer cuadro
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Marca el fin de una etapa del arranque.
+     *
+     * @param stage El nombre de la etapa.
+     */
+    public static synchronized void mark(String stage) {
+        if (!finished) {
+            names.add(stage);
+            times.add(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Marca el primer cuadro cuando termine el próximo pulso de la escena, y compara el
+     * tiempo de arranque con el objetivo. Se debe llamar desde el hilo de JavaFX, después
+     * de mostrar la escena.
+     *
+     * @param scene La escena del menú.
+     */
+    public static void awaitFirstFrame(Scene scene) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            finish();
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    // Marca el primer cuadro, informa y, si se pidió, cierra la aplicación
+    private static void finish() {
+        long elapsed;
+        synchronized (StartupTimer.class) {
+            mark("primer cuadro");
+            finished = true;
+            elapsed = times.get(times.size() - 1) - JVM_START_MILLIS;
+        }
+        boolean overBudget = elapsed > BUDGET_MILLIS;
+        if (REPORT || EXIT || overBudget) {
+            System.out.println(report(elapsed, overBudget));
+        }
+        if (EXIT) {
+            Platform.exit();
+            System.exit(overBudget ? 1 : 0);
+        }
+    }
+
+    // Arma el informe de las etapas, en milisegundos desde el inicio de la JVM
+    private static synchronized String report(long elapsed, boolean overBudget) {
+        StringBuilder text = new StringBuilder("Arranque: ");
+        text.append(elapsed).append(" ms hasta el primer cuadro (objetivo ").append(BUDGET_MILLIS).append(" ms)");
+        if (overBudget) {
+            text.append(" SUPERADO");
+        }
+        for (int i = 0; i < names.size(); i++) {
+            text.append("\n  ").append(times.get(i) - JVM_START_MILLIS).append(" ms  ").append(names.get(i));
+        }
+        return text.toString();
+    }
+}
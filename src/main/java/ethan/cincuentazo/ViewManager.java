@@ -0,0 +1,90 @@
+package ethan.cincuentazo;
+
+import ethan.cincuentazo.metrics.Counter;
+import ethan.cincuentazo.metrics.GameMetrics;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cambia entre las vistas de la aplicación sobre una sola escena.
+ *
+ * Cada FXML se carga una sola vez; su raíz y su controlador quedan guardados y al navegar
+ * solo se cambia la raíz de la escena, sin volver a leer el FXML ni crear otra escena. Los
+ * controladores guardados conservan su estado entre visitas, así que deben volver a su
+ * estado inicial por su cuenta (por ejemplo, el tablero reparte de nuevo al empezar otra
+ * partida).
+ *
+ * Todos los métodos se deben llamar desde el hilo de JavaFX.
+ */
+public class ViewManager {
+
+    private final Stage stage;  // Ventana de la aplicación
+    private final Map<String, AssetPreloader.View> views = new HashMap<>();  // Vistas cargadas por nombre de FXML
+    private Scene scene;  // La única escena; se crea con la primera vista
+
+    /**
+     * Crea el administrador de vistas de una ventana.
+     *
+     * @param stage La ventana donde se muestran las vistas.
+     */
+    public ViewManager(Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Indica si una vista ya está cargada.
+     *
+     * @param fxml El nombre del archivo FXML de la vista.
+     * @return `true` si la vista está guardada.
+     */
+    public boolean isLoaded(String fxml) {
+        return views.containsKey(fxml);
+    }
+
+    /**
+     * Guarda una vista cargada en otro lado, por ejemplo en segundo plano, para que
+     * `show` no la vuelva a cargar. No reemplaza una vista ya guardada.
+     *
+     * @param fxml El nombre del archivo FXML de la vista.
+     * @param view La vista cargada.
+     */
+    public void put(String fxml, AssetPreloader.View view) {
+        views.putIfAbsent(fxml, view);
+    }
+
+    /**
+     * Muestra una vista, cargándola la primera vez.
+     *
+     * @param fxml El nombre del archivo FXML de la vista, en /fxml.
+     * @param <T> El tipo del controlador de la vista.
+     * @return El controlador de la vista.
+     * @throws IOException Si no se pudo cargar el FXML.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T show(String fxml) throws IOException {
+        AssetPreloader.View view = views.get(fxml);
+        if (view == null) {
+            FXMLLoader loader = new FXMLLoader(ViewManager.class.getResource("/fxml/" + fxml));
+            Parent root = loader.load();
+            view = new AssetPreloader.View(root, loader.getController());
+            views.put(fxml, view);
+        }
+        if (scene == null) {
+            scene = new Scene(view.root());
+            stage.setScene(scene);
+            GameMetrics.increment(Counter.SCENE_SWITCHES);
+        } else if (scene.getRoot() != view.root()) {
+            scene.setRoot(view.root());
+            stage.sizeToScene();  // Las vistas no tienen el mismo tamaño
+            GameMetrics.increment(Counter.SCENE_SWITCHES);
+        }
+        stage.show();
+        return (T) view.controller();
+    }
+}
@@ -0,0 +1,289 @@
+package ethan.cincuentazo.ai;
+
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.CincuentazoGame;
+import ethan.cincuentazo.model.ComputerStrategy;
+import ethan.cincuentazo.model.Player;
+import ethan.cincuentazo.model.RuleSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computadora que elige su carta con una búsqueda Monte Carlo en árbol sobre conjuntos
+ * de información (ISMCTS de un solo observador).
+ *
+ * La computadora no conoce las manos de los rivales ni el orden del mazo: en cada iteración se
+ * reparten al azar las cartas no vistas (determinización), se desciende por el árbol
+ * eligiendo con UCB entre las jugadas legales en esa determinización y se termina la
+ * partida con jugadas aleatorias. La búsqueda se paraleliza en la raíz: cada hilo
+ * construye su propio árbol durante el tiempo asignado y al final se suman las visitas
+ * de cada jugada, así que la fuerza crece con la cantidad de núcleos.
+ *
+ * Cada búsqueda cuenta su tiempo desde que empieza en un hilo de la estrategia. Las
+ * llamadas simultáneas a la misma instancia esperan su turno en esos hilos: no pierden
+ * fuerza, pero tardan más. Para jugar muchas partidas en paralelo conviene una instancia
+ * por hilo.
+ */
+public class MctsComputerStrategy implements ComputerStrategy {
+
+    /** Constante de exploración de UCB. */
+    static final double EXPLORATION = 0.7;
+
+    /** Profundidad máxima del árbol; más allá se continúa solo con jugadas aleatorias. */
+    static final int MAX_DEPTH = 128;
+
+    private final long budgetNanos;  // Tiempo máximo de decisión por jugada
+    private final int threads;  // Cantidad de árboles que se construyen en paralelo
+    private final ExecutorService executor;  // Hilos de la búsqueda
+    private final SplittableRandom seeds;  // Origen de los generadores de cada búsqueda
+
+    /**
+     * Crea la estrategia con un hilo por núcleo disponible.
+     *
+     * @param budgetMillis El tiempo máximo por jugada, en milisegundos.
+     */
+    public MctsComputerStrategy(long budgetMillis) {
+        this(budgetMillis, Runtime.getRuntime().availableProcessors(), new SplittableRandom());
+    }
+
+    /**
+     * Crea la estrategia.
+     *
+     * @param budgetMillis El tiempo máximo por jugada, en milisegundos.
+     * @param threads La cantidad de hilos de búsqueda.
+     * @param random El generador del que se derivan los generadores de cada hilo.
+     */
+    public MctsComputerStrategy(long budgetMillis, int threads, SplittableRandom random) {
+        if (budgetMillis < 0 || threads < 1) {
+            throw new IllegalArgumentException("Presupuesto o cantidad de hilos inválidos: "
+                    + budgetMillis + " ms, " + threads + " hilos");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.threads = threads;
+        this.seeds = random;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mcts-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public int chooseCard(CincuentazoGame game, Player self) {
+        int tableSum = game.getTableSum();
+        RuleSet rules = game.getRules();
+        long legal = self.playableMask(tableSum, rules);
+        if (Long.bitCount(legal) <= 1) {
+            return self.firstPlayableIndex(tableSum, rules);  // No hay nada que pensar
+        }
+
+        // Los asientos en juego se numeran desde el propio, en orden de turno
+        int seats = game.getAliveCount();
+        SearchState root = new SearchState(seats, rules);
+        root.hands[0] = self.getHandMask();
+        root.tableSum = tableSum;
+        root.top = game.getCardOnTable().getOrdinal();
+        root.discard = game.getDiscardPile().getMask();
+        root.alive = (1 << seats) - 1;
+        long unknown = CardCatalog.ALL_CARDS & ~self.getHandMask() & ~game.getPlayedMask();
+        int[] handSizes = new int[seats];
+        int seat = game.seatOf(self);
+        for (int i = 1; i < seats; i++) {
+            seat = game.getNextSeat(seat);
+            handSizes[i] = game.getSeat(seat).getHand().size();
+        }
+        int deckSize = game.getDeck().size();
+
+        List<Callable<int[]>> searches = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            SplittableRandom random;
+            synchronized (seeds) {
+                random = seeds.split();
+            }
+            // El plazo corre desde que la búsqueda arranca, no desde que se encola
+            searches.add(() -> search(root, unknown, handSizes, deckSize, System.nanoTime() + budgetNanos, random));
+        }
+
+        int[] visits = new int[CardCatalog.SIZE];
+        try {
+            for (Future<int[]> future : executor.invokeAll(searches)) {
+                int[] partial = future.get();
+                for (int ordinal = 0; ordinal < visits.length; ordinal++) {
+                    visits[ordinal] += partial[ordinal];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return self.firstPlayableIndex(tableSum, rules);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("La búsqueda de la computadora falló", e.getCause());
+        }
+        return indexOfMostVisited(self, legal, visits);
+    }
+
+    /**
+     * Detiene los hilos de búsqueda. La estrategia no se puede usar después.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Devuelve el índice en la mano de la jugada legal con más visitas
+    private static int indexOfMostVisited(Player self, long legal, int[] visits) {
+        int bestIndex = -1;
+        int bestVisits = -1;
+        for (int i = 0; i < self.getHand().size(); i++) {
+            int ordinal = self.getHand().get(i).getOrdinal();
+            if ((legal & CardCatalog.bit(ordinal)) != 0 && visits[ordinal] > bestVisits) {
+                bestVisits = visits[ordinal];
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Construye un árbol desde la raíz hasta que vence el plazo y devuelve las visitas
+     * de cada jugada de la raíz, indexadas por ordinal. Siempre completa al menos una
+     * iteración.
+     *
+     * @param root El estado visible: mano propia, suma y asientos en juego.
+     * @param unknown Las cartas que el asiento 0 no ha visto.
+     * @param handSizes La cantidad de cartas en la mano de cada asiento.
+     * @param deckSize La cantidad de cartas en el mazo.
+     * @param deadline El instante límite según `System.nanoTime()`.
+     * @param random El generador de esta búsqueda.
+     * @return Las visitas por ordinal de las jugadas de la raíz.
+     */
+    static int[] search(SearchState root, long unknown, int[] handSizes, int deckSize,
+                        long deadline, SplittableRandom random) {
+        byte[] pool = new byte[Long.bitCount(unknown)];
+        int count = 0;
+        for (long mask = unknown; mask != 0; mask &= mask - 1) {
+            pool[count++] = (byte) Long.numberOfTrailingZeros(mask);
+        }
+
+        Node tree = new Node(-1);
+        Node[] path = new Node[MAX_DEPTH + 1];
+        SearchState state = new SearchState(root.hands.length, root.rules);
+        state.random = random;
+        do {
+            determinize(root, pool, handSizes, deckSize, state, random);
+
+            // Selección y expansión
+            int depth = 0;
+            Node node = tree;
+            path[depth++] = node;
+            while (state.winner() < 0 && depth <= MAX_DEPTH) {
+                long legal = state.legalMoves();
+                long unexpanded = 0L;
+                for (long mask = legal; mask != 0; mask &= mask - 1) {
+                    int ordinal = Long.numberOfTrailingZeros(mask);
+                    Node child = node.children[ordinal];
+                    if (child == null) {
+                        unexpanded |= CardCatalog.bit(ordinal);
+                    } else {
+                        child.available++;
+                    }
+                }
+                int ordinal;
+                if (unexpanded != 0) {
+                    ordinal = SearchState.randomBit(unexpanded, random);
+                    node.children[ordinal] = new Node(state.toMove);
+                    node.children[ordinal].available++;
+                } else {
+                    ordinal = selectUcb(node, legal);
+                }
+                node = node.children[ordinal];
+                path[depth++] = node;
+                state.play(ordinal);
+                if (unexpanded != 0) {
+                    break;
+                }
+            }
+
+            // Simulación con jugadas aleatorias
+            while (state.winner() < 0) {
+                state.play(SearchState.randomBit(state.legalMoves(), random));
+            }
+
+            // Retropropagación: cada nodo suma una victoria si ganó quien hizo esa jugada
+            int winner = state.winner();
+            for (int i = 0; i < depth; i++) {
+                path[i].visits++;
+                if (path[i].mover == winner) {
+                    path[i].wins++;
+                }
+            }
+        } while (System.nanoTime() < deadline);
+
+        int[] visits = new int[CardCatalog.SIZE];
+        for (int ordinal = 0; ordinal < visits.length; ordinal++) {
+            if (tree.children[ordinal] != null) {
+                visits[ordinal] = tree.children[ordinal].visits;
+            }
+        }
+        return visits;
+    }
+
+    // Reparte al azar las cartas no vistas entre las manos ocultas y el mazo
+    private static void determinize(SearchState root, byte[] pool, int[] handSizes, int deckSize,
+                                    SearchState state, SplittableRandom random) {
+        for (int i = pool.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+        state.copyFrom(root);
+        int next = 0;
+        for (int seat = 1; seat < state.hands.length; seat++) {
+            long hand = 0L;
+            for (int i = 0; i < handSizes[seat]; i++) {
+                hand |= CardCatalog.bit(pool[next++]);
+            }
+            state.hands[seat] = hand;
+        }
+        System.arraycopy(pool, next, state.deck, 0, deckSize);
+        state.deckTop = deckSize;
+    }
+
+    // Elige entre los hijos legales con UCB usando la cantidad de veces que cada uno estuvo disponible
+    private static int selectUcb(Node node, long legal) {
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (long mask = legal; mask != 0; mask &= mask - 1) {
+            int ordinal = Long.numberOfTrailingZeros(mask);
+            Node child = node.children[ordinal];
+            double score = child.wins / child.visits
+                    + EXPLORATION * Math.sqrt(Math.log(child.available) / child.visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = ordinal;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Nodo del árbol: la jugada que lleva a él y sus estadísticas.
+     */
+    static final class Node {
+        final int mover;  // Asiento que hizo la jugada que lleva a este nodo
+        final Node[] children = new Node[CardCatalog.SIZE];  // Hijos indexados por ordinal
+        int visits;  // Veces que se pasó por el nodo
+        double wins;  // Victorias de `mover` en esas visitas
+        int available;  // Veces que la jugada fue legal al pasar por el padre
+
+        Node(int mover) {
+            this.mover = mover;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package ethan.cincuentazo.ai;
+
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.RuleSet;
+
+import java.util.SplittableRandom;
+
+/**
+ * Estado de partida compacto y mutable que usa la búsqueda. Las manos son máscaras
+ * de bits y el mazo es un arreglo de ordinales, así que jugar, robar y copiar el
+ * estado no reservan memoria. Aplica las mismas reglas que `CincuentazoGame`, con las
+ * tablas compiladas del `RuleSet` de la partida.
+ *
+ * Los asientos se numeran desde el jugador que busca (asiento 0) en orden de turno,
+ * contando solo los que siguen en juego.
+ */
+final class SearchState {
+    final RuleSet rules;  // Reglas de la partida
+    final long[] hands;  // Mano de cada asiento como máscara de bits
+    final byte[] deck = new byte[CardCatalog.SIZE];  // Ordinales del mazo; el tope es deck[deckTop - 1]
+    int deckTop;  // Cantidad de cartas en el mazo
+    long discard;  // Cartas debajo de la de la mesa, que se reciclan cuando el mazo se agota
+    int top;  // Ordinal de la carta de la mesa
+    int tableSum;  // Suma de la mesa
+    int toMove;  // Asiento al que le toca jugar
+    int alive;  // Máscara de asientos que siguen en juego
+    SplittableRandom random;  // Generador con el que se baraja el mazo al eliminar un asiento
+
+    SearchState(int seats, RuleSet rules) {
+        this.rules = rules;
+        hands = new long[seats];
+    }
+
+    /**
+     * Copia el estado de otro sin reservar memoria.
+     *
+     * @param other El estado a copiar, con la misma cantidad de asientos.
+     */
+    void copyFrom(SearchState other) {
+        System.arraycopy(other.hands, 0, hands, 0, hands.length);
+        System.arraycopy(other.deck, 0, deck, 0, other.deckTop);
+        deckTop = other.deckTop;
+        discard = other.discard;
+        top = other.top;
+        tableSum = other.tableSum;
+        toMove = other.toMove;
+        alive = other.alive;
+    }
+
+    /**
+     * Obtiene las cartas que el asiento al que le toca puede jugar.
+     *
+     * @return La máscara de jugadas legales.
+     */
+    long legalMoves() {
+        return hands[toMove] & rules.legalMask(tableSum);
+    }
+
+    /**
+     * Obtiene el asiento ganador.
+     *
+     * @return El asiento que quedó solo en juego, o -1 si la partida sigue.
+     */
+    int winner() {
+        return Integer.bitCount(alive) == 1 ? Integer.numberOfTrailingZeros(alive) : -1;
+    }
+
+    /**
+     * Juega una carta legal del asiento al que le toca, repone su mano (reciclando el
+     * descarte si el mazo se agota), pasa el turno y elimina a los asientos que no puedan
+     * jugar.
+     *
+     * @param ordinal El ordinal de la carta a jugar.
+     */
+    void play(int ordinal) {
+        int mover = toMove;
+        hands[mover] &= ~CardCatalog.bit(ordinal);
+        tableSum += rules.playedValue(ordinal, tableSum);
+        discard |= CardCatalog.bit(top);
+        top = ordinal;
+        while (Long.bitCount(hands[mover]) < rules.getHandSize() && (deckTop > 0 || recycleDiscards())) {
+            hands[mover] |= CardCatalog.bit(deck[--deckTop]);
+        }
+        advance();
+    }
+
+    // Baraja el descarte como mazo nuevo, como `CincuentazoGame`
+    private boolean recycleDiscards() {
+        if (!rules.recyclesDiscards() || discard == 0) {
+            return false;
+        }
+        for (long mask = discard; mask != 0; mask &= mask - 1) {
+            deck[deckTop++] = (byte) Long.numberOfTrailingZeros(mask);
+        }
+        discard = 0L;
+        shuffleDeck();
+        return true;
+    }
+
+    // Pasa el turno al siguiente asiento en juego; quien no puede jugar queda eliminado
+    private void advance() {
+        do {
+            toMove = nextAlive(toMove);
+            if (legalMoves() != 0) {
+                return;
+            }
+            eliminate(toMove);
+        } while (Integer.bitCount(alive) > 1);
+    }
+
+    // Saca al asiento del juego y, según las reglas, devuelve sus cartas al mazo barajado, como `CincuentazoGame`
+    private void eliminate(int seat) {
+        alive &= ~(1 << seat);
+        if (hands[seat] == 0) {
+            return;
+        }
+        if (rules.getElimination() == RuleSet.Elimination.REMOVE_FROM_GAME) {
+            hands[seat] = 0L;
+            return;
+        }
+        for (long mask = hands[seat]; mask != 0; mask &= mask - 1) {
+            deck[deckTop++] = (byte) Long.numberOfTrailingZeros(mask);
+        }
+        hands[seat] = 0L;
+        shuffleDeck();
+    }
+
+    private void shuffleDeck() {
+        for (int i = deckTop - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = deck[i];
+            deck[i] = deck[j];
+            deck[j] = tmp;
+        }
+    }
+
+    private int nextAlive(int seat) {
+        int next = seat;
+        do {
+            next = (next + 1) % hands.length;
+        } while ((alive & (1 << next)) == 0);
+        return next;
+    }
+
+    /**
+     * Elige al azar uno de los bits encendidos de una máscara.
+     *
+     * @param mask Una máscara no vacía.
+     * @param random El generador a usar.
+     * @return El índice del bit elegido.
+     */
+    static int randomBit(long mask, SplittableRandom random) {
+        for (int skip = random.nextInt(Long.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+}
@@ -0,0 +1,254 @@
+package ethan.cincuentazo.ai;
+
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.RuleSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tabla de finales de Cincuentazo para dos jugadores con el mazo agotado.
+ *
+ * Con el mazo vacío la mano del rival es exactamente el conjunto de cartas no vistas,
+ * así que la posición es de información perfecta y queda determinada por la mano del
+ * que juega, la mano del rival y la suma de la mesa. Solo importa el valor de cada
+ * carta, no su palo: las manos se reducen a multiconjuntos de 11 clases de valor
+ * ("2" a "8", "9", "10", figuras y As) y cada posición ocupa un bit que indica si
+ * gana el jugador al que le toca.
+ *
+ * Las posiciones se agrupan en capas por cantidad total de cartas en las manos (0 a 8);
+ * la capa `t` solo depende de la capa `t - 1`, lo que permite resolverla hacia atrás
+ * (ver `TablebaseGenerator`). El archivo se abre con un `MappedByteBuffer` y las
+ * consultas no reservan memoria.
+ *
+ * La tabla supone que las cartas jugadas no vuelven al juego, así que solo vale para las
+ * reglas de `RULES`: las estándar sin reciclar el descarte. Los valores, las jugadas
+ * legales y el límite de la mesa se leen de esas reglas, tanto al generarla como al
+ * consultarla.
+ */
+public final class Tablebase {
+
+    /** Reglas con las que se resolvió la tabla. */
+    public static final RuleSet RULES = RuleSet.named("sin-reciclar");
+
+    /** Identificador del formato del archivo ("CZTB"). */
+    static final int MAGIC = 0x435A5442;
+
+    /** Versión del formato del archivo. */
+    static final int VERSION = 1;
+
+    /** Bytes reservados para la cabecera antes de los datos. */
+    static final int DATA_OFFSET = 64;
+
+    /** Posición de la cabecera donde se guarda la cantidad de capas terminadas. */
+    static final int LAYERS_DONE_OFFSET = 8;
+
+    /** Cantidad máxima de cartas en la mano que cubre la tabla. */
+    static final int MAX_HAND = 4;
+
+    /** Cantidad de capas (total de cartas en ambas manos, de 0 a 8). */
+    static final int LAYERS = 2 * MAX_HAND + 1;
+
+    /** Cantidad de clases de valor de las cartas. */
+    static final int CLASSES = 11;
+
+    /**
+     * Suma mínima representada. Con 8 cartas o menos en juego, desde cualquier suma
+     * menor o igual ninguna jugada puede superar el límite de `RULES` y el resultado es
+     * el mismo.
+     */
+    static final int MIN_SUM = -40;
+
+    /** Cantidad de sumas representadas, de `MIN_SUM` al límite de la mesa de `RULES`. */
+    static final int SUMS = RULES.getBustThreshold() - MIN_SUM + 1;
+
+    static final long[] CLASS_MASKS = new long[CLASSES];  // Cartas de cada clase
+    static final int[] CLASS_CARD = new int[CLASSES];  // Un ordinal representante de cada clase
+    static final int[][] BINOMIAL = new int[CLASSES + MAX_HAND + 1][MAX_HAND + 2];
+    static final int[] MULTISETS = new int[MAX_HAND + 1];  // Cantidad de manos distintas por tamaño
+    static final long[] LAYER_OFFSETS = new long[LAYERS + 1];  // Bit inicial de cada capa
+
+    static {
+        for (int ordinal = 0; ordinal < CardCatalog.SIZE; ordinal++) {
+            int valueClass = valueClass(ordinal);
+            CLASS_MASKS[valueClass] |= CardCatalog.bit(ordinal);
+            CLASS_CARD[valueClass] = ordinal;
+        }
+        for (int n = 0; n < BINOMIAL.length; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, MAX_HAND + 1); k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k < n ? BINOMIAL[n - 1][k] : 0);
+            }
+        }
+        for (int k = 0; k <= MAX_HAND; k++) {
+            MULTISETS[k] = BINOMIAL[CLASSES - 1 + k][k];
+        }
+        for (int layer = 0; layer < LAYERS; layer++) {
+            long bits = (long) MULTISETS[moverSize(layer)] * MULTISETS[otherSize(layer)] * SUMS;
+            LAYER_OFFSETS[layer + 1] = LAYER_OFFSETS[layer] + (bits + 63) / 64 * 64;  // Capas alineadas a 64 bits
+        }
+        // Las cartas de una clase se tienen que jugar igual con RULES sobre cualquier suma
+        for (int sum = MIN_SUM; sum <= RULES.getBustThreshold(); sum++) {
+            long legal = RULES.legalMask(sum);
+            for (int valueClass = 0; valueClass < CLASSES; valueClass++) {
+                long inClass = CLASS_MASKS[valueClass];
+                int played = RULES.playedValue(CLASS_CARD[valueClass], sum);
+                for (long cards = inClass; cards != 0; cards &= cards - 1) {
+                    if (RULES.playedValue(Long.numberOfTrailingZeros(cards), sum) != played
+                            || ((legal & inClass) != 0 && (legal & inClass) != inClass)) {
+                        throw new IllegalStateException("Las clases de valor no coinciden con las reglas " + RULES.getName());
+                    }
+                }
+            }
+        }
+    }
+
+    private final ByteBuffer data;  // Bits de las posiciones, desde DATA_OFFSET
+
+    private Tablebase(ByteBuffer data) {
+        this.data = data;
+    }
+
+    /**
+     * Abre una tabla completa generada por `TablebaseGenerator`.
+     *
+     * @param path La ruta del archivo.
+     * @return La tabla lista para consultar.
+     * @throws IOException Si el archivo no se puede leer, no es una tabla o está incompleto.
+     */
+    public static Tablebase open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < fileSize() || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("El archivo no es una tabla de finales válida: " + path);
+            }
+            if (buffer.getInt(LAYERS_DONE_OFFSET) != LAYERS) {
+                throw new IOException("La tabla de finales está incompleta: " + path);
+            }
+            return new Tablebase(buffer);
+        }
+    }
+
+    /**
+     * Consulta el resultado de una posición con el mazo agotado.
+     *
+     * @param moverHand La mano del jugador al que le toca, como máscara.
+     * @param otherHand La mano del rival, como máscara.
+     * @param tableSum La suma de la mesa (como máximo el límite de `RULES`).
+     * @return 1 si gana el jugador al que le toca, 0 si pierde, -1 si la posición no está en la tabla.
+     */
+    public int probe(long moverHand, long otherHand, int tableSum) {
+        int moverSize = Long.bitCount(moverHand);
+        int otherSize = Long.bitCount(otherHand);
+        if (moverSize > MAX_HAND || (otherSize != moverSize && otherSize != moverSize - 1)
+                || tableSum > RULES.getBustThreshold()) {
+            return -1;
+        }
+        return isWin(data, moverSize + otherSize, rank(moverHand), rank(otherHand), tableSum) ? 1 : 0;
+    }
+
+    /**
+     * Busca una jugada perfecta para una posición con el mazo agotado. Si la posición
+     * es ganadora devuelve una carta que la mantiene ganadora; si es perdedora devuelve
+     * cualquier carta legal.
+     *
+     * @param moverHand La mano del jugador al que le toca, como máscara.
+     * @param otherHand La mano del rival, como máscara.
+     * @param tableSum La suma de la mesa (como máximo el límite de `RULES`).
+     * @return El ordinal de la carta a jugar, o -1 si no hay jugadas legales o la posición no está en la tabla.
+     */
+    public int bestMove(long moverHand, long otherHand, int tableSum) {
+        if (probe(moverHand, otherHand, tableSum) < 0) {
+            return -1;
+        }
+        long legal = moverHand & RULES.legalMask(tableSum);
+        if (legal == 0) {
+            return -1;
+        }
+        int layer = Long.bitCount(moverHand) + Long.bitCount(otherHand) - 1;
+        int otherRank = rank(otherHand);
+        for (int valueClass = 0; valueClass < CLASSES; valueClass++) {
+            long inClass = legal & CLASS_MASKS[valueClass];
+            if (inClass != 0) {
+                int ordinal = Long.numberOfTrailingZeros(inClass);
+                int childSum = tableSum + RULES.playedValue(ordinal, tableSum);
+                int rest = rank(moverHand & ~CardCatalog.bit(ordinal));
+                if (!isWin(data, layer, otherRank, rest, childSum)) {
+                    return ordinal;  // El rival queda en una posición perdedora
+                }
+            }
+        }
+        return Long.numberOfTrailingZeros(legal);
+    }
+
+    /**
+     * Calcula la posición de una mano entre todas las manos de su tamaño. Recorre las
+     * clases en orden, así que no necesita ordenar ni reservar memoria.
+     *
+     * @param hand La mano como máscara.
+     * @return El rango de la mano.
+     */
+    static int rank(long hand) {
+        int rank = 0;
+        int position = 0;
+        for (int valueClass = 0; valueClass < CLASSES; valueClass++) {
+            for (int n = Long.bitCount(hand & CLASS_MASKS[valueClass]); n > 0; n--) {
+                rank += BINOMIAL[valueClass + position][position + 1];
+                position++;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Lee el bit de una posición.
+     *
+     * @param data Los datos de la tabla (desde la cabecera).
+     * @param layer La capa (total de cartas en ambas manos).
+     * @param moverRank El rango de la mano del que juega.
+     * @param otherRank El rango de la mano del rival.
+     * @param tableSum La suma de la mesa.
+     * @return `true` si gana el jugador al que le toca.
+     */
+    static boolean isWin(ByteBuffer data, int layer, int moverRank, int otherRank, int tableSum) {
+        long bit = index(layer, moverRank, otherRank, tableSum);
+        return (data.get(DATA_OFFSET + (int) (bit >>> 3)) & (1 << (bit & 7))) != 0;
+    }
+
+    /**
+     * Calcula el índice de bit de una posición.
+     */
+    static long index(int layer, int moverRank, int otherRank, int tableSum) {
+        int sumIndex = Math.max(tableSum, MIN_SUM) - MIN_SUM;
+        return LAYER_OFFSETS[layer]
+                + ((long) moverRank * MULTISETS[otherSize(layer)] + otherRank) * SUMS + sumIndex;
+    }
+
+    /** Cantidad de cartas del que juega en una capa. */
+    static int moverSize(int layer) {
+        return (layer + 1) / 2;
+    }
+
+    /** Cantidad de cartas del rival en una capa. */
+    static int otherSize(int layer) {
+        return layer / 2;
+    }
+
+    /** Tamaño total del archivo de la tabla, en bytes. */
+    static long fileSize() {
+        return DATA_OFFSET + LAYER_OFFSETS[LAYERS] / 8;
+    }
+
+    // Clase de valor de una carta según su rango: "2".."8" son 0..6, "9" es 7, "10" es 8, figuras 9, As 10
+    private static int valueClass(int ordinal) {
+        int rank = ordinal % CardCatalog.RANKS_PER_SUIT;
+        if (rank <= 8) {
+            return rank;
+        }
+        return CardCatalog.isAce(ordinal) ? 10 : 9;
+    }
+}
@@ -0,0 +1,222 @@
+package ethan.cincuentazo.ai;
+
+import ethan.cincuentazo.model.CardCatalog;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Genera la tabla de finales (`Tablebase`) por análisis retrógrado.
+ *
+ * Las capas se resuelven en orden creciente de cartas en las manos, con las reglas de
+ * `Tablebase.RULES`: una posición es ganadora si alguna jugada legal deja al rival en
+ * una posición perdedora de la capa anterior, y perdedora si no hay jugadas legales o
+ * todas dejan ganando al rival.
+ * Cada capa se reparte en bloques entre varios hilos, que escriben bytes distintos del
+ * archivo mapeado en memoria. Al terminar una capa se vuelca a disco y se anota en la
+ * cabecera, así que una generación interrumpida continúa desde la última capa completa.
+ */
+public class TablebaseGenerator {
+
+    /**
+     * Recibe el avance de la generación.
+     */
+    @FunctionalInterface
+    public interface Progress {
+        /**
+         * Se llama al terminar y guardar una capa, en el hilo que llamó a `generate`.
+         *
+         * @param layer La capa resuelta.
+         * @param nanos Lo que tardó en resolverse, en nanosegundos.
+         */
+        void layerSolved(int layer, long nanos);
+    }
+
+    /** Posiciones por bloque de trabajo (múltiplo de 8 para no compartir bytes). */
+    static final int CHUNK = 1 << 20;
+
+    private final int[][] classSets = new int[Tablebase.MAX_HAND + 1][];  // Clases presentes en cada mano, por tamaño y rango
+    private final int[][] removed = new int[Tablebase.MAX_HAND + 1][];  // Rango de la mano sin una carta de cada clase
+
+    /**
+     * Crea el generador y precalcula, para cada mano posible, las clases que contiene
+     * y el rango que queda al jugar una carta de cada una.
+     */
+    public TablebaseGenerator() {
+        for (int size = 0; size <= Tablebase.MAX_HAND; size++) {
+            classSets[size] = new int[Tablebase.MULTISETS[size]];
+            removed[size] = new int[Tablebase.MULTISETS[size] * Tablebase.CLASSES];
+            fillHands(size, 0, 0, new int[Tablebase.CLASSES]);
+        }
+    }
+
+    // Recorre todos los multiconjuntos de `size` cartas, agregando desde la clase `from`
+    private void fillHands(int size, int placed, int from, int[] counts) {
+        if (placed == size) {
+            long hand = 0L;
+            int classSet = 0;
+            for (int valueClass = 0; valueClass < Tablebase.CLASSES; valueClass++) {
+                long cards = Tablebase.CLASS_MASKS[valueClass];
+                for (int n = 0; n < counts[valueClass]; n++) {
+                    hand |= Long.lowestOneBit(cards);
+                    cards &= cards - 1;
+                }
+                if (counts[valueClass] > 0) {
+                    classSet |= 1 << valueClass;
+                }
+            }
+            int rank = Tablebase.rank(hand);
+            classSets[size][rank] = classSet;
+            for (int valueClass = 0; valueClass < Tablebase.CLASSES; valueClass++) {
+                long inClass = hand & Tablebase.CLASS_MASKS[valueClass];
+                if (inClass != 0) {
+                    removed[size][rank * Tablebase.CLASSES + valueClass] = Tablebase.rank(hand & ~Long.lowestOneBit(inClass));
+                }
+            }
+            return;
+        }
+        for (int valueClass = from; valueClass < Tablebase.CLASSES; valueClass++) {
+            counts[valueClass]++;
+            fillHands(size, placed + 1, valueClass, counts);
+            counts[valueClass]--;
+        }
+    }
+
+    /**
+     * Genera o continúa la tabla en el archivo indicado, sin informar el avance.
+     *
+     * @param path La ruta del archivo de la tabla.
+     * @param threads La cantidad de hilos.
+     * @throws IOException Si el archivo no se puede crear o escribir.
+     * @throws InterruptedException Si se interrumpe la generación; lo ya terminado queda guardado.
+     */
+    public void generate(Path path, int threads) throws IOException, InterruptedException {
+        generate(path, threads, (layer, nanos) -> {
+        });
+    }
+
+    /**
+     * Genera o continúa la tabla en el archivo indicado.
+     *
+     * @param path La ruta del archivo de la tabla.
+     * @param threads La cantidad de hilos.
+     * @param progress Recibe cada capa terminada.
+     * @throws IOException Si el archivo no se puede crear o escribir.
+     * @throws InterruptedException Si se interrumpe la generación; lo ya terminado queda guardado.
+     */
+    public void generate(Path path, int threads, Progress progress) throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            if (file.length() < Tablebase.fileSize()) {
+                file.setLength(Tablebase.fileSize());
+            }
+            MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, Tablebase.fileSize());
+            if (buffer.getInt(0) != Tablebase.MAGIC || buffer.getInt(4) != Tablebase.VERSION) {
+                buffer.putInt(0, Tablebase.MAGIC);
+                buffer.putInt(4, Tablebase.VERSION);
+                buffer.putInt(Tablebase.LAYERS_DONE_OFFSET, 0);
+            }
+            for (int layer = buffer.getInt(Tablebase.LAYERS_DONE_OFFSET); layer < Tablebase.LAYERS; layer++) {
+                long start = System.nanoTime();
+                solveLayer(buffer, layer, executor);
+                buffer.force();
+                buffer.putInt(Tablebase.LAYERS_DONE_OFFSET, layer + 1);
+                buffer.force();
+                progress.layerSolved(layer, System.nanoTime() - start);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Resuelve todas las posiciones de una capa repartidas en bloques
+    private void solveLayer(MappedByteBuffer buffer, int layer, ExecutorService executor)
+            throws InterruptedException, IOException {
+        long positions = (long) Tablebase.MULTISETS[Tablebase.moverSize(layer)]
+                * Tablebase.MULTISETS[Tablebase.otherSize(layer)] * Tablebase.SUMS;
+        List<Callable<Void>> chunks = new ArrayList<>();
+        for (long from = 0; from < positions; from += CHUNK) {
+            long chunkStart = from;
+            long chunkEnd = Math.min(positions, from + CHUNK);
+            chunks.add(() -> {
+                solveChunk(buffer, layer, chunkStart, chunkEnd);
+                return null;
+            });
+        }
+        for (Future<Void> future : executor.invokeAll(chunks)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IOException("Falló la generación de la capa " + layer, e.getCause());
+            }
+        }
+    }
+
+    // Resuelve las posiciones [from, to) de una capa; `from` es múltiplo de 8
+    private void solveChunk(MappedByteBuffer buffer, int layer, long from, long to) {
+        int moverSize = Tablebase.moverSize(layer);
+        int otherSize = Tablebase.otherSize(layer);
+        int others = Tablebase.MULTISETS[otherSize];
+        int bits = 0;
+        for (long position = from; position < to; position++) {
+            int sum = (int) (position % Tablebase.SUMS) + Tablebase.MIN_SUM;
+            long pair = position / Tablebase.SUMS;
+            int moverRank = (int) (pair / others);
+            int otherRank = (int) (pair % others);
+            if (isWin(buffer, layer, moverSize, moverRank, otherRank, sum)) {
+                bits |= 1 << (position & 7);
+            }
+            if ((position & 7) == 7 || position == to - 1) {
+                long byteIndex = (Tablebase.LAYER_OFFSETS[layer] + position) >>> 3;
+                buffer.put(Tablebase.DATA_OFFSET + (int) byteIndex, (byte) bits);
+                bits = 0;
+            }
+        }
+    }
+
+    // Una posición gana si alguna jugada legal deja al rival en una posición perdedora
+    private boolean isWin(MappedByteBuffer buffer, int layer, int moverSize, int moverRank, int otherRank, int sum) {
+        int classSet = classSets[moverSize][moverRank];
+        for (int valueClass = 0; valueClass < Tablebase.CLASSES; valueClass++) {
+            if ((classSet & (1 << valueClass)) == 0) {
+                continue;
+            }
+            int card = Tablebase.CLASS_CARD[valueClass];
+            if ((Tablebase.RULES.legalMask(sum) & CardCatalog.bit(card)) == 0) {
+                continue;  // Jugada ilegal
+            }
+            int childSum = sum + Tablebase.RULES.playedValue(card, sum);
+            int rest = removed[moverSize][moverRank * Tablebase.CLASSES + valueClass];
+            if (!Tablebase.isWin(buffer, layer - 1, otherRank, rest, childSum)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Genera la tabla de finales.
+     * Argumentos opcionales: ruta del archivo y cantidad de hilos.
+     *
+     * @param args Los argumentos de la línea de comandos.
+     * @throws Exception Si la generación falla.
+     */
+    public static void main(String[] args) throws Exception {
+        Path path = Path.of(args.length > 0 ? args[0] : "cincuentazo.tb");
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        new TablebaseGenerator().generate(path, threads, (layer, nanos) ->
+                System.out.printf("Capa %d (%d + %d cartas) resuelta en %.1f s%n", layer,
+                        Tablebase.moverSize(layer), Tablebase.otherSize(layer), nanos / 1e9));
+        System.out.println("Tabla de finales lista en " + path.toAbsolutePath());
+    }
+}
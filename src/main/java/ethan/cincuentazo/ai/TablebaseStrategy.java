@@ -0,0 +1,46 @@
+package ethan.cincuentazo.ai;
+
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.CincuentazoGame;
+import ethan.cincuentazo.model.ComputerStrategy;
+import ethan.cincuentazo.model.Player;
+
+/**
+ * Estrategia que juega perfecto cuando el mazo está agotado y quedan dos asientos en
+ * juego consultando la tabla de finales, y delega en otra estrategia en los demás casos.
+ * La tabla se calcula con las reglas de `Tablebase.RULES`, así que con otra variante
+ * siempre delega.
+ */
+public class TablebaseStrategy implements ComputerStrategy {
+
+    private final Tablebase tablebase;  // Tabla de finales consultada
+    private final ComputerStrategy fallback;  // Estrategia para el resto de la partida
+
+    /**
+     * Crea la estrategia.
+     *
+     * @param tablebase La tabla de finales.
+     * @param fallback La estrategia que se usa mientras el mazo tenga cartas o haya más de dos asientos.
+     */
+    public TablebaseStrategy(Tablebase tablebase, ComputerStrategy fallback) {
+        this.tablebase = tablebase;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int chooseCard(CincuentazoGame game, Player self) {
+        if (!game.getDeck().hasCards() && game.getAliveCount() == 2 && game.getRules().fingerprint() == Tablebase.RULES.fingerprint()) {
+            // Sin mazo, la mano del rival son exactamente las cartas que no se han visto
+            long opponentHand = CardCatalog.ALL_CARDS & ~self.getHandMask() & ~game.getPlayedMask();
+            int ordinal = tablebase.bestMove(self.getHandMask(), opponentHand, game.getTableSum());
+            if (ordinal >= 0) {
+                for (int i = 0; i < self.getHand().size(); i++) {
+                    if (self.getHand().get(i).getOrdinal() == ordinal) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return fallback.chooseCard(game, self);
+    }
+}
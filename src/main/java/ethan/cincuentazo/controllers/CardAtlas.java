@@ -0,0 +1,114 @@
+package ethan.cincuentazo.controllers;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Atlas de las cartas: una sola imagen con todas las caras y la parte trasera, y la
+ * región que ocupa cada una.
+ *
+ * El atlas lo genera `src/build/java/CardAtlasBuilder.java` durante la compilación, en
+ * `/images/cards.png` (celdas de 89x118), `/images/cards@2x.png` (celdas del doble) y el
+ * índice `/images/cards.idx`. Las vistas muestran una carta poniendo la imagen del atlas
+ * en su `ImageView` y la región de la carta como `viewport`, así que todas comparten la
+ * misma textura.
+ */
+final class CardAtlas {
+
+    /** Atlas de resolución normal. */
+    static final String STANDARD = "cards";
+
+    /** Atlas de doble resolución. */
+    static final String HI_DPI = "cards@2x";
+
+    private static final String INDEX = "/images/cards.idx";
+
+    private final Image image;  // Imagen con todas las cartas
+    private final Map<String, Rectangle2D> slices;  // Región de cada imagen dentro del atlas
+
+    private CardAtlas(Image image, Map<String, Rectangle2D> slices) {
+        this.image = image;
+        this.slices = slices;
+    }
+
+    /**
+     * Lee y decodifica un atlas de los recursos.
+     *
+     * @param name `STANDARD` o `HI_DPI`.
+     * @return El atlas, o `null` si no se generó (por ejemplo, al ejecutar desde el IDE
+     *         sin pasar por Maven).
+     */
+    static CardAtlas load(String name) {
+        int scale = HI_DPI.equals(name) ? 2 : 1;
+        try (InputStream indexStream = CardAtlas.class.getResourceAsStream(INDEX);
+             InputStream imageStream = CardAtlas.class.getResourceAsStream("/images/" + name + ".png")) {
+            if (indexStream == null || imageStream == null) {
+                return null;
+            }
+            Map<String, Rectangle2D> slices = readIndex(indexStream, scale);
+            Image image = new Image(imageStream);
+            if (image.isError()) {
+                System.out.println("No se pudo decodificar el atlas " + name);
+                return null;
+            }
+            return new CardAtlas(image, slices);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("No se pudo leer el atlas " + name + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Lee el índice: una línea "cell <ancho> <alto>" y una línea "<nombre> <x> <y>" por imagen
+    private static Map<String, Rectangle2D> readIndex(InputStream stream, int scale) throws IOException {
+        Map<String, Rectangle2D> slices = new HashMap<>();
+        double width = 0;
+        double height = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length != 3) {
+                throw new IOException("Línea inválida en el índice del atlas: " + line);
+            }
+            if (fields[0].equals("cell")) {
+                width = Double.parseDouble(fields[1]) * scale;
+                height = Double.parseDouble(fields[2]) * scale;
+            } else if (width == 0) {
+                throw new IOException("El índice del atlas no indica el tamaño de la celda");
+            } else {
+                slices.put(fields[0], new Rectangle2D(Double.parseDouble(fields[1]) * scale,
+                        Double.parseDouble(fields[2]) * scale, width, height));
+            }
+        }
+        return slices;
+    }
+
+    /**
+     * Obtiene la imagen del atlas.
+     *
+     * @return La imagen con todas las cartas.
+     */
+    Image getImage() {
+        return image;
+    }
+
+    /**
+     * Obtiene la región de una imagen dentro del atlas.
+     *
+     * @param imageName El nombre de la imagen, como `Card.getImageName()`.
+     * @return La región, o `null` si la imagen no está en el atlas.
+     */
+    Rectangle2D getSlice(String imageName) {
+        return slices.get(imageName);
+    }
+}
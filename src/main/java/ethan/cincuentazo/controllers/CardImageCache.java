@@ -0,0 +1,186 @@
+package ethan.cincuentazo.controllers;
+
+import ethan.cincuentazo.metrics.Counter;
+import ethan.cincuentazo.metrics.GameMetrics;
+import ethan.cincuentazo.model.Card;
+import ethan.cincuentazo.model.CardCatalog;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Screen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Imágenes de las cartas, compartidas por todas las vistas.
+ *
+ * Si el atlas de las cartas está entre los recursos (ver `CardAtlas`), todas las caras
+ * salen de esa única imagen, que se decodifica una sola vez: `show` pone el atlas en la
+ * vista y recorta la carta con el `viewport`. Las cartas de la mano usan el atlas de
+ * resolución normal, salvo en pantallas de alta densidad, y la carta de la mesa, que se
+ * muestra más grande, usa el de doble resolución.
+ *
+ * Si el atlas no está, cada cara se lee de su archivo y se decodifica una sola vez, ya
+ * escalada al tamaño en que se muestra. En los dos casos la cara se estira al tamaño de
+ * la vista sin conservar la proporción, como las celdas del atlas, así que una carta se
+ * ve igual venga de donde venga. La caché guarda como máximo `capacity` imágenes y
+ * descarta la menos usada; con la capacidad por defecto caben las 52 cartas y la parte
+ * trasera. En los dos casos, después de `preloadAll` mostrar un turno no lee archivos ni
+ * decodifica imágenes.
+ *
+ * Los métodos se pueden llamar desde cualquier hilo, para poder precargar en segundo plano,
+ * salvo `show`, que modifica una vista.
+ */
+public final class CardImageCache {
+
+    /** Imágenes al tamaño de las cartas de las manos. */
+    public static final CardImageCache HAND = new CardImageCache(89, 118, CardCatalog.SIZE + 1, false);
+
+    /** Imágenes al tamaño de la carta sobre la mesa. */
+    public static final CardImageCache TABLE = new CardImageCache(115, 176, CardCatalog.SIZE + 1, true);
+
+    /** Nombre de la imagen de la parte trasera de las cartas. */
+    public static final String BACK = "back";
+
+    private final double width;  // Ancho al que se decodifican las imágenes sueltas
+    private final double height;  // Alto al que se decodifican las imágenes sueltas
+    private final boolean hiDpi;  // Usa siempre el atlas de doble resolución
+    private final Map<String, Image> images;  // Imágenes sueltas por nombre, de la menos a la más usada
+    private CardAtlas atlas;  // Atlas de las cartas; se lee en el primer uso
+    private boolean atlasLoaded;  // Ya se intentó leer el atlas, aunque no estuviera
+
+    /**
+     * Crea una caché de imágenes.
+     *
+     * @param width El ancho al que se muestran las imágenes.
+     * @param height El alto al que se muestran las imágenes.
+     * @param capacity La cantidad máxima de imágenes sueltas guardadas.
+     * @param hiDpi `true` para usar siempre el atlas de doble resolución; si es `false`,
+     *              se usa solo cuando la pantalla lo necesita.
+     */
+    public CardImageCache(double width, double height, int capacity, boolean hiDpi) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacity);
+        }
+        this.width = width;
+        this.height = height;
+        this.hiDpi = hiDpi;
+        this.images = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Muestra una carta en una vista, o la deja vacía.
+     *
+     * @param view La vista.
+     * @param card La carta, o `null` para vaciar la vista.
+     */
+    public void show(ImageView view, Card card) {
+        if (card == null) {
+            view.setImage(null);
+            view.setViewport(null);
+            return;
+        }
+        show(view, card.getImageName());
+    }
+
+    /**
+     * Muestra una imagen del atlas en una vista, por ejemplo la parte trasera (`BACK`).
+     *
+     * @param view La vista.
+     * @param imageName El nombre de la imagen, como `Card.getImageName()`.
+     */
+    public void show(ImageView view, String imageName) {
+        CardAtlas atlas = atlas();
+        Rectangle2D slice = atlas == null ? null : atlas.getSlice(imageName);
+        if (slice != null) {
+            GameMetrics.increment(Counter.IMAGE_CACHE_HITS);
+            view.setImage(atlas.getImage());  // La misma imagen en todas las vistas: no cambia la textura
+            view.setViewport(slice);
+        } else {
+            view.setViewport(null);
+            view.setImage(get(imageName));
+        }
+    }
+
+    /**
+     * Obtiene la imagen suelta de una carta.
+     *
+     * @param card La carta.
+     * @return La imagen, o `null` si no se encontró el archivo.
+     */
+    public Image get(Card card) {
+        return get(card.getImageName());
+    }
+
+    /**
+     * Obtiene una imagen suelta por su nombre, leyéndola la primera vez que se pide.
+     *
+     * @param imageName El nombre del archivo en `/images`, sin la extensión.
+     * @return La imagen, o `null` si no se encontró el archivo.
+     */
+    public Image get(String imageName) {
+        synchronized (images) {
+            Image image = images.get(imageName);
+            if (image != null) {
+                GameMetrics.increment(Counter.IMAGE_CACHE_HITS);
+                return image;
+            }
+        }
+        GameMetrics.increment(Counter.IMAGE_CACHE_MISSES);
+        // Se decodifica fuera del candado; si dos hilos piden la misma imagen, se queda la primera
+        Image image = load(imageName);
+        if (image == null) {
+            return null;
+        }
+        synchronized (images) {
+            Image previous = images.putIfAbsent(imageName, image);
+            return previous != null ? previous : image;
+        }
+    }
+
+    /**
+     * Decodifica de antemano el atlas o, si no está, las 52 cartas y la parte trasera.
+     */
+    public void preloadAll() {
+        if (atlas() != null) {
+            return;
+        }
+        for (int ordinal = 0; ordinal < CardCatalog.SIZE; ordinal++) {
+            get(CardCatalog.get(ordinal));
+        }
+        get(BACK);
+    }
+
+    // Lee el atlas la primera vez; el de doble resolución si se pidió o si la pantalla escala
+    private synchronized CardAtlas atlas() {
+        if (!atlasLoaded) {
+            boolean large = hiDpi || Screen.getPrimary().getOutputScaleX() > 1;
+            atlas = CardAtlas.load(large ? CardAtlas.HI_DPI : CardAtlas.STANDARD);
+            GameMetrics.increment(Counter.IMAGE_CACHE_MISSES);
+            atlasLoaded = true;
+        }
+        return atlas;
+    }
+
+    // Lee una imagen suelta de los recursos al tamaño de la caché
+    private Image load(String imageName) {
+        try (InputStream stream = CardImageCache.class.getResourceAsStream("/images/" + imageName + ".png")) {
+            if (stream == null) {
+                System.out.println("Imagen no encontrada para: " + imageName);
+                return null;
+            }
+            return new Image(stream, width, height, false, true);  // Estirada, como en el atlas
+        } catch (IOException e) {
+            System.out.println("No se pudo leer la imagen " + imageName + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
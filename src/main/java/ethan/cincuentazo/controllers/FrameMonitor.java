@@ -0,0 +1,212 @@
+package ethan.cincuentazo.controllers;
+
+import ethan.cincuentazo.metrics.Counter;
+import ethan.cincuentazo.metrics.GameMetrics;
+import ethan.cincuentazo.metrics.Latency;
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.Label;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Monitor de cuadros del hilo de JavaFX.
+ *
+ * Un `AnimationTimer` marca el comienzo de cada pulso y mide el tiempo entre pulsos, que
+ * se registra en la latencia `FRAME_TIME` de las métricas. Un hilo vigía revisa cada
+ * `WATCHDOG_PERIOD_MILLIS` cuándo fue el último pulso; si pasaron más de
+ * `cincuentazo.stallMillis` milisegundos (por defecto 100), toma la pila del hilo de
+ * JavaFX en ese momento, que muestra qué lo tiene ocupado. Cuando el pulso por fin llega,
+ * la pausa se guarda con su duración y su pila, se imprime y cuenta en `LONG_PULSES`.
+ *
+ * Mientras está activo, el temporizador pide un pulso por cuadro, así que el monitor está
+ * apagado por defecto: se enciende con la propiedad `cincuentazo.frameMonitor=true` o con
+ * F3 en el tablero. Si tiene una etiqueta, muestra en ella los cuadros por segundo, el
+ * cuadro más largo y las pausas detectadas.
+ */
+public class FrameMonitor {
+
+    /** Duración a partir de la cual un pulso se considera una pausa, en milisegundos. */
+    public static final long STALL_MILLIS = Long.getLong("cincuentazo.stallMillis", 100L);
+
+    private static final long WATCHDOG_PERIOD_MILLIS = 10;  // Cada cuánto revisa el vigía
+    private static final long OVERLAY_PERIOD_NANOS = 250_000_000L;  // Cada cuánto se actualiza la etiqueta
+    private static final int MAX_STALLS = 32;  // Pausas guardadas; se descartan las más viejas
+    private static final int MAX_PRINTED_FRAMES = 20;  // Marcos de la pila que se imprimen
+
+    /**
+     * Una pausa del hilo de JavaFX.
+     *
+     * @param durationNanos El tiempo entre los dos pulsos, en nanosegundos.
+     * @param stack La pila del hilo de JavaFX durante la pausa, o `null` si el vigía no
+     *              llegó a tomarla.
+     */
+    public record Stall(long durationNanos, StackTraceElement[] stack) {
+    }
+
+    // Pila del hilo de JavaFX tomada durante la pausa que siguió al pulso `pulse`
+    private record Capture(long pulse, StackTraceElement[] stack) {
+    }
+
+    private final Label overlay;  // Etiqueta con el resumen, o null
+    private final AnimationTimer heartbeat;  // Marca cada pulso en el hilo de JavaFX
+    private final Deque<Stall> stalls = new ArrayDeque<>();  // Últimas pausas; se sincroniza sobre sí misma
+    private volatile long lastPulseNanos;  // Comienzo del último pulso
+    private volatile Thread fxThread;  // Hilo de JavaFX, conocido desde el primer pulso
+    private volatile Capture capture;  // Última pila tomada por el vigía
+    private volatile boolean running;  // El monitor está activo
+    private Thread watchdog;  // Hilo vigía mientras el monitor está activo
+
+    // Estadísticas de la ventana actual de la etiqueta; solo las toca el hilo de JavaFX
+    private long windowStart;
+    private int windowFrames;
+    private long windowMaxNanos;
+    private int stallCount;
+
+    /**
+     * Crea el monitor, apagado.
+     *
+     * @param overlay La etiqueta donde mostrar el resumen, o `null` para no mostrarlo.
+     */
+    public FrameMonitor(Label overlay) {
+        this.overlay = overlay;
+        this.heartbeat = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse();
+            }
+        };
+    }
+
+    /**
+     * Enciende el monitor. Se debe llamar desde el hilo de JavaFX.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lastPulseNanos = System.nanoTime();
+        windowStart = lastPulseNanos;
+        heartbeat.start();
+        watchdog = Thread.ofPlatform().daemon().name("fx-watchdog").start(this::watch);
+        if (overlay != null) {
+            overlay.setVisible(true);
+        }
+    }
+
+    /**
+     * Apaga el monitor. Se debe llamar desde el hilo de JavaFX.
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        heartbeat.stop();
+        watchdog.interrupt();
+        watchdog = null;
+        if (overlay != null) {
+            overlay.setVisible(false);
+        }
+    }
+
+    /**
+     * Enciende el monitor si está apagado, o lo apaga si está encendido.
+     */
+    public void toggle() {
+        if (running) {
+            stop();
+        } else {
+            start();
+        }
+    }
+
+    /**
+     * Indica si el monitor está encendido.
+     *
+     * @return `true` si se están midiendo los cuadros.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Obtiene las últimas pausas detectadas, de la más vieja a la más nueva.
+     *
+     * @return Una copia de las pausas guardadas.
+     */
+    public List<Stall> getStalls() {
+        synchronized (stalls) {
+            return new ArrayList<>(stalls);
+        }
+    }
+
+    // Comienzo de un pulso, en el hilo de JavaFX
+    private void onPulse() {
+        long now = System.nanoTime();
+        fxThread = Thread.currentThread();
+        long previous = lastPulseNanos;
+        long frame = now - previous;
+        lastPulseNanos = now;
+        GameMetrics.record(Latency.FRAME_TIME, frame);
+        if (frame > STALL_MILLIS * 1_000_000L) {
+            recordStall(previous, frame);
+        }
+        windowFrames++;
+        windowMaxNanos = Math.max(windowMaxNanos, frame);
+        if (overlay != null && now - windowStart >= OVERLAY_PERIOD_NANOS) {
+            double fps = windowFrames * 1e9 / (now - windowStart);
+            overlay.setText(String.format("%.0f fps | cuadro máx. %.1f ms | pausas %d",
+                    fps, windowMaxNanos / 1e6, stallCount));
+            windowStart = now;
+            windowFrames = 0;
+            windowMaxNanos = 0;
+        }
+    }
+
+    // Guarda e informa una pausa que acaba de terminar, con la pila que tomó el vigía
+    private void recordStall(long previous, long frame) {
+        Capture captured = capture;
+        // Una pila tomada en otra pausa no explica esta
+        StackTraceElement[] stack = captured != null && captured.pulse() == previous ? captured.stack() : null;
+        Stall stall = new Stall(frame, stack);
+        synchronized (stalls) {
+            if (stalls.size() == MAX_STALLS) {
+                stalls.removeFirst();
+            }
+            stalls.addLast(stall);
+        }
+        stallCount++;
+        GameMetrics.increment(Counter.LONG_PULSES);
+        StringBuilder text = new StringBuilder();
+        text.append("Pausa de ").append(frame / 1_000_000).append(" ms en el hilo de JavaFX");
+        if (stack != null) {
+            for (int i = 0; i < Math.min(stack.length, MAX_PRINTED_FRAMES); i++) {
+                text.append("\n\tat ").append(stack[i]);
+            }
+        }
+        System.out.println(text);
+    }
+
+    // Hilo vigía: toma la pila del hilo de JavaFX una vez por pausa
+    private void watch() {
+        long stallNanos = STALL_MILLIS * 1_000_000L;
+        long capturedPulse = -1;  // Pulso cuya pausa ya tiene pila
+        while (running) {
+            try {
+                Thread.sleep(WATCHDOG_PERIOD_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long pulse = lastPulseNanos;
+            Thread thread = fxThread;
+            if (thread != null && pulse != capturedPulse && System.nanoTime() - pulse > stallNanos) {
+                capture = new Capture(pulse, thread.getStackTrace());
+                capturedPulse = pulse;
+            }
+        }
+    }
+}
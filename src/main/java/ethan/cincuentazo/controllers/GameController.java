@@ -5,22 +5,26 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.ButtonType;
 import javafx.stage.Stage;
+import ethan.cincuentazo.Main;
+import ethan.cincuentazo.ai.MctsComputerStrategy;
+import ethan.cincuentazo.metrics.GameMetrics;
+import ethan.cincuentazo.metrics.Latency;
 import ethan.cincuentazo.model.CincuentazoGame;
-import ethan.cincuentazo.model.Player;
+import ethan.cincuentazo.model.GameEvent;
+import ethan.cincuentazo.model.GameLoop;
+import ethan.cincuentazo.model.GameSnapshot;
 import ethan.cincuentazo.model.Card;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.AnchorPane;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Controlador de la vista del juego Cincuentazo.
@@ -38,6 +42,8 @@ public class GameController {
     private Label lastPlayerCardLabel;  // Label para mostrar la última carta del jugador
     @FXML
     private Label lastComputerCardLabel;  // Label para mostrar la última carta de la computadora
+    @FXML
+    private Label seatsLabel;  // Label para mostrar el estado de las demás computadoras
 
     @FXML
     private ImageView playerCard1;
@@ -59,31 +65,100 @@ public class GameController {
 
     @FXML
     private ImageView tableCard; // Imagen de la carta en la mesa
+    @FXML
+    private ImageView Back;  // Imagen del mazo
+    @FXML
+    private AnchorPane board;  // Raíz del tablero
+    @FXML
+    private Label frameLabel;  // Resumen del monitor de cuadros
 
     private Card currentTableCard; // Carta actual en la mesa
 
     @FXML
     private Button endGameButton;
 
-    private CincuentazoGame game;
+    /** Tiempo que la computadora dedica a pensar cada jugada, en milisegundos. */
+    private static final long COMPUTER_THINKING_MILLIS = 1000;
+
+    /**
+     * Pausa adicional antes de cada jugada de la computadora, en milisegundos. Se configura
+     * con la propiedad `cincuentazo.computerDelay`; 0 (por defecto) no agrega pausa.
+     */
+    private static final long COMPUTER_DELAY_MILLIS = Long.getLong("cincuentazo.computerDelay", 0L);
+
+    private GameLoop game;  // Dueño de la partida; la interfaz solo lee sus fotografías. Se crea en la primera partida
+    private MctsComputerStrategy computerStrategy;  // Estrategia de la computadora; se crea con el bucle
+    private int seats;  // Asientos de la partida en curso, para reiniciarla si un turno falla
+    private GameSnapshot shown;  // Fotografía que muestra la interfaz, o null antes de la primera partida
+    private final TurnScheduler turnScheduler = new TurnScheduler(COMPUTER_DELAY_MILLIS);  // Programa los turnos de la computadora
     private Card lastPlayerCard;
     private Card lastComputerCard;
 
+    private ImageView[] playerViews;  // Posiciones de las cartas del jugador
+    private ImageView[] computerViews;  // Posiciones de las cartas de la computadora
+    private final List<Card> playerHand = new ArrayList<>(CincuentazoGame.HAND_SIZE);  // Mano del jugador según los eventos
+    private final List<Card> computerHand = new ArrayList<>(CincuentazoGame.HAND_SIZE);  // Mano de la computadora según los eventos
+    private final Card[] playerSlots = new Card[CincuentazoGame.HAND_SIZE];  // Carta que muestra cada posición del jugador
+    private final Card[] computerSlots = new Card[CincuentazoGame.HAND_SIZE];  // Carta que muestra cada posición de la computadora
+    private boolean seatsDirty;  // Cambió la mano de una computadora que no está en el tablero
+    private FrameMonitor frameMonitor;  // Mide los pulsos del hilo de JavaFX; se enciende con F3
+
     /**
-     * Constructor de la clase. Inicializa el objeto juego.
+     * Crea el bucle de la partida y la estrategia de la computadora. Se llama al empezar la
+     * primera partida y no al cargar el tablero, que se precarga mientras el usuario está
+     * en el menú: sus hilos no arrancan hasta que se juega.
      */
-    public GameController() {
-        game = new CincuentazoGame();
+    private void startLoop() {
+        game = new GameLoop();
+        // Los eventos se generan en el hilo de la partida y se aplican en orden en el de JavaFX
+        game.addEventListener(event -> Platform.runLater(() -> onGameEvent(event)));
+        // La computadora busca su jugada con Monte Carlo. La tabla de finales no sirve aquí:
+        // el tablero juega con las reglas estándar, que reciclan el descarte (ver `Tablebase.RULES`)
+        computerStrategy = new MctsComputerStrategy(COMPUTER_THINKING_MILLIS);
+        game.setComputerStrategy(computerStrategy);
     }
 
     /**
-     * Método que se ejecuta al inicializar la vista. Inicia el juego y actualiza la interfaz de usuario.
+     * Método que se ejecuta al inicializar la vista. Prepara las imágenes y los nodos del
+     * tablero; la partida empieza con `startGame`.
      */
     @FXML
     private void initialize() {
-        game = new CincuentazoGame();  // Asegúrate de que game se inicializa correctamente
-        updateTableCard();
-        updateUI();
+        playerViews = new ImageView[] {playerCard1, playerCard2, playerCard3, playerCard4};
+        computerViews = new ImageView[] {computerCard1, computerCard2, computerCard3, computerCard4};
+        // El atlas se decodifica una sola vez aquí, y no durante los turnos
+        CardImageCache.HAND.preloadAll();
+        CardImageCache.TABLE.preloadAll();
+        CardImageCache.TABLE.show(Back, CardImageCache.BACK);
+        frameMonitor = new FrameMonitor(frameLabel);
+        board.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.F3) {
+                frameMonitor.toggle();
+                event.consume();
+            }
+        });
+        if (Boolean.getBoolean("cincuentazo.frameMonitor")) {
+            Platform.runLater(frameMonitor::start);  // El tablero se puede cargar fuera del hilo de JavaFX
+        }
+    }
+
+    /**
+     * Comienza una partida nueva con la cantidad de asientos indicada: el jugador y
+     * `seats - 1` computadoras.
+     *
+     * @param seats La cantidad de asientos, entre 2 y `CincuentazoGame.MAX_SEATS`.
+     */
+    public void startGame(int seats) {
+        if (game == null) {
+            startLoop();
+        }
+        this.seats = seats;
+        cancelTurns();
+        endGameButton.setDisable(false);  // El tablero se reutiliza: pudo quedar deshabilitado en la partida anterior
+        turnScheduler.schedule(0, () -> game.reset(seats).get(), snapshot -> {
+            show(snapshot);
+            continueGame(snapshot);
+        }, this::turnFailed);
     }
 
     /**
@@ -97,7 +172,6 @@ public class GameController {
         int cardIndex = getCardIndex(selectedCardImageView);
 
         if (cardIndex != -1) {
-            System.out.println("Carta seleccionada: " + cardIndex);
             playTurn(cardIndex);  // Pasar el índice de la carta seleccionada
         }
     }
@@ -123,175 +197,257 @@ public class GameController {
 
     /**
      * Método que maneja el turno de juego después de que el jugador selecciona una carta.
-     * Actualiza la UI y verifica si alguien ha ganado.
+     * Aplica la jugada del jugador en el modelo, actualiza la UI y programa la respuesta
+     * de las computadoras, que "piensan" cada jugada en orden de turno.
      *
      * @param selectedCard El índice de la carta seleccionada.
      */
     @FXML
     private void playTurn(int selectedCard) {
-        game.playTurn(selectedCard); // Lógica del turno
+        if (turnScheduler.isPending() || shown == null || !shown.isPlayerTurn()) {
+            return;  // Las computadoras todavía están jugando
+        }
+        long token = game.moveToken();
+        turnScheduler.schedule(0, () -> game.playerMove(selectedCard, token).get(), this::showMove, this::turnFailed);
+    }
 
-        // Actualizar la carta en la mesa con la última carta jugada por el jugador
-        currentTableCard = game.getLastPlayerCard();
-        updateTableCard();
+    /**
+     * Programa el turno de la computadora a la que le toca. La búsqueda dura
+     * COMPUTER_THINKING_MILLIS y se ejecuta en el hilo del bucle de la partida.
+     */
+    private void playComputerTurn() {
+        long token = game.moveToken();
+        turnScheduler.schedule(() -> game.computerMove(token).get(), this::showMove, this::turnFailed);
+    }
+
+    /**
+     * Informa que un turno no se pudo calcular y ofrece reiniciar la partida o volver al
+     * menú. Al reiniciar se reemplazan el bucle y la estrategia, porque el fallo pudo
+     * haberlos detenido.
+     *
+     * @param failure El error del turno.
+     */
+    private void turnFailed(Throwable failure) {
+        failure.printStackTrace();
+        ButtonType restart = new ButtonType("Reiniciar");
+        ButtonType menu = new ButtonType("Volver al menú");
+        Alert alert = new Alert(AlertType.ERROR, "No se pudo continuar la partida: " + failure, restart, menu);
+        alert.setTitle("Error en la partida");
+        alert.setHeaderText(null);
+        if (alert.showAndWait().orElse(menu) == restart) {
+            cancelTurns();
+            game.close();
+            computerStrategy.shutdown();
+            startLoop();
+            startGame(seats);
+        } else {
+            endGame();
+        }
+    }
 
-        lastPlayerCard = game.getLastPlayerCard();
-        lastComputerCard = game.getLastComputerCard();
+    /**
+     * Cancela el turno programado y la jugada que ya haya llegado a la cola de la
+     * partida: la ficha se toma al programar el turno, así que el bucle la descarta
+     * aunque el turno se cancele después de encolarla.
+     */
+    private void cancelTurns() {
+        turnScheduler.cancel();
+        game.cancelMoves();
+    }
 
-        if (lastPlayerCard != null) {
-            lastPlayerCardLabel.setText("Última carta jugador: " + lastPlayerCard.getName());
+    /**
+     * Sigue con el turno que corresponda después de una jugada: las computadoras juegan
+     * encadenadas hasta que vuelva a ser el turno del jugador o termine la partida. Los
+     * nodos ya se actualizaron con los eventos de la jugada, que llegan antes.
+     *
+     * @param snapshot La fotografía después de la jugada.
+     */
+    private void showMove(GameSnapshot snapshot) {
+        if (snapshot.getVersion() == shown.getVersion()) {
+            return;  // La jugada no era válida: la carta haría superar 50
         }
-        if (lastComputerCard != null) {
-            lastComputerCardLabel.setText("Última carta computadora: " + lastComputerCard.getName());
+        shown = snapshot;
+        if (seatsDirty) {
+            updateSeatsLabel();
         }
+        continueGame(snapshot);
+    }
 
-        updateUI();
+    // Muestra al ganador o programa el turno de la computadora que sigue
+    private void continueGame(GameSnapshot snapshot) {
+        if (snapshot.isGameOver()) {
+            showWinner(snapshot.getName(snapshot.getWinnerSeat()));
+        } else if (!snapshot.isPlayerTurn()) {
+            playComputerTurn();
+        }
+    }
 
-        if (game.getTableSum() > 50) {
-            showWinner("Nadie");
-        } else {
-            // Iniciar un hilo para la jugada de la computadora
-            new Thread(() -> {
-                try {
-                    // Simulamos un retraso para la jugada de la computadora
-                    Thread.sleep(1000);  // Espera de 1 segundo
-
-                    // La computadora juega su carta
-                    game.playTurn(-1);  // Aquí, la computadora juega automáticamente
-
-                    Platform.runLater(() -> {
-                        lastPlayerCard = game.getLastPlayerCard();
-                        lastComputerCard = game.getLastComputerCard();
-
-                        if (lastPlayerCard != null) {
-                            lastPlayerCardLabel.setText("Última carta jugador: " + lastPlayerCard.getName());
-                        }
-                        if (lastComputerCard != null) {
-                            lastComputerCardLabel.setText("Última carta computadora: " + lastComputerCard.getName());
-                        }
-
-                        // Actualizar la carta en la mesa
-                        currentTableCard = game.getLastComputerCard();
-                        updateTableCard();
-                        updateUI();
-
-                        if (game.getTableSum() > 50) {
-                            showWinner("Nadie");
-                        }
-                    });
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+    /**
+     * Muestra por completo una fotografía de la partida. Se usa al repartir; durante la
+     * partida los nodos se actualizan con los eventos.
+     *
+     * @param snapshot La fotografía a mostrar.
+     */
+    private void show(GameSnapshot snapshot) {
+        long start = GameMetrics.start();
+        shown = snapshot;
+        currentTableCard = snapshot.getCardOnTable();
+        updateTableCard();
+
+        lastPlayerCard = snapshot.getLastPlayerCard();
+        lastComputerCard = snapshot.getLastComputerCard();
+        lastPlayerCardLabel.setText("Última carta jugador: " + (lastPlayerCard == null ? "" : lastPlayerCard.getName()));
+        lastComputerCardLabel.setText("Última carta computadora: " + (lastComputerCard == null ? "" : lastComputerCard.getName()));
+        tableSumLabel.setText("Suma de la mesa: " + snapshot.getTableSum());
+
+        playerHand.clear();
+        playerHand.addAll(snapshot.getHand(0));
+        updateCards(playerHand, playerSlots, playerViews);
+        computerHand.clear();
+        computerHand.addAll(snapshot.getHand(1));
+        updateCards(computerHand, computerSlots, computerViews);
+        updateSeatsLabel();
+        GameMetrics.stop(Latency.UI_UPDATE, start);
+    }
+
+    /**
+     * Aplica un evento de la partida a los nodos afectados. Se llama en el hilo de JavaFX,
+     * en el mismo orden en que ocurrieron los eventos.
+     *
+     * @param event El evento.
+     */
+    private void onGameEvent(GameEvent event) {
+        long start = GameMetrics.start();
+        switch (event) {
+            case GameEvent.CardPlayed played -> {
+                currentTableCard = played.card();
+                updateTableCard();
+                if (played.seat() == 0) {
+                    lastPlayerCard = played.card();
+                    lastPlayerCardLabel.setText("Última carta jugador: " + lastPlayerCard.getName());
+                } else {
+                    lastComputerCard = played.card();
+                    lastComputerCardLabel.setText("Última carta computadora: " + lastComputerCard.getName());
                 }
-            }).start();  // Inicia el hilo
+                List<Card> hand = shownHand(played.seat());
+                if (hand != null) {
+                    hand.remove(played.index());
+                }
+                handChanged(played.seat());
+            }
+            case GameEvent.CardDrawn drawn -> {
+                List<Card> hand = shownHand(drawn.seat());
+                if (hand != null) {
+                    hand.add(drawn.card());
+                }
+                handChanged(drawn.seat());
+            }
+            case GameEvent.SumChanged changed -> tableSumLabel.setText("Suma de la mesa: " + changed.newSum());
+            case GameEvent.PlayerEliminated eliminated -> {
+                List<Card> hand = shownHand(eliminated.seat());
+                if (hand != null) {
+                    hand.clear();
+                }
+                handChanged(eliminated.seat());
+            }
+            case GameEvent.DeckRecycled recycled -> {
+                // El tablero no muestra cuántas cartas tiene el mazo
+            }
+            case GameEvent.NewDeal deal -> {
+                // El reparto se muestra completo con su fotografía
+            }
+            case GameEvent.GameOver over -> {
+                // El ganador se anuncia con la fotografía final
+            }
         }
+        GameMetrics.stop(Latency.UI_UPDATE, start);
     }
 
+    // Mano que se muestra en el tablero para un asiento, o null si el asiento no tiene cartas visibles
+    private List<Card> shownHand(int seat) {
+        return seat == 0 ? playerHand : seat == 1 ? computerHand : null;
+    }
+
+    // Actualiza las cartas de un asiento en el tablero, o marca la etiqueta de los demás asientos
+    private void handChanged(int seat) {
+        if (seat == 0) {
+            updateCards(playerHand, playerSlots, playerViews);
+        } else if (seat == 1) {
+            updateCards(computerHand, computerSlots, computerViews);
+        } else {
+            seatsDirty = true;
+        }
+    }
 
     /**
-     * Actualiza la carta en la mesa en la interfaz gráfica.
+     * Muestra cuántas cartas tiene cada computadora a partir de la segunda, o si fue
+     * eliminada. La primera computadora ya se ve en el tablero.
      */
-    private void updateTableCard() {
-        if (currentTableCard != null) {
-            try {
-                Image image = new Image(getClass().getResourceAsStream("/images/" + currentTableCard.getImageName() + ".png"));
-                tableCard.setImage(image);
-            } catch (NullPointerException e) {
-                System.out.println("Imagen no encontrada para: " + currentTableCard.getImageName());
+    private void updateSeatsLabel() {
+        seatsDirty = false;
+        StringBuilder text = new StringBuilder();
+        for (int seat = 2; seat < shown.getSeatCount(); seat++) {
+            text.append(shown.getName(seat)).append(": ");
+            if (shown.isEliminated(seat)) {
+                text.append("eliminada");
+            } else {
+                text.append(shown.getHand(seat).size()).append(" cartas");
             }
+            text.append('\n');
         }
+        seatsLabel.setText(text.toString());
     }
 
     /**
-     * Método para terminar el juego y volver al menú principal.
+     * Actualiza la carta en la mesa en la interfaz gráfica.
      */
-    @FXML
-    private void endGame() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/MainMenu.fxml"));
-            Parent root = loader.load();
-
-            Stage stage = (Stage) endGameButton.getScene().getWindow();
-            Scene scene = new Scene(root);
-            stage.setScene(scene);
-            stage.show(); // Muestra el menú principal
-        } catch (IOException e) {
-            e.printStackTrace();
+    private void updateTableCard() {
+        if (currentTableCard != null) {
+            CardImageCache.TABLE.show(tableCard, currentTableCard);
         }
     }
 
     /**
-     * Actualiza los elementos de la interfaz de usuario con los datos actuales del juego.
+     * Método para terminar el juego y volver al menú principal. La partida queda
+     * detenida y se vuelve a repartir al empezar la próxima.
      */
-    private void updateUI() {
-        tableSumLabel.setText("Suma de la mesa: " + game.getTableSum());
-        updateCards(game.getPlayer(), playerCard1, playerCard2, playerCard3, playerCard4);
-        updateCards(game.getComputer(), computerCard1, computerCard2, computerCard3, computerCard4);
+    @FXML
+    private void endGame() {
+        if (game != null) {
+            cancelTurns();
+        }
+        Main.loadView("MenuPrincipal.fxml");
     }
 
     /**
-     * Actualiza las cartas visibles de un jugador en la interfaz de usuario.
+     * Actualiza las cartas visibles de un jugador en la interfaz de usuario. Solo se
+     * cambian las imágenes de las posiciones cuya carta cambió; las posiciones sin carta
+     * quedan vacías.
      *
-     * @param player El jugador cuyas cartas se van a actualizar.
-     * @param card1 La primera carta del jugador.
-     * @param card2 La segunda carta del jugador.
-     * @param card3 La tercera carta del jugador.
-     * @param card4 La cuarta carta del jugador.
+     * @param cards Las cartas del jugador.
+     * @param slots Las cartas que muestra cada posición; se actualiza.
+     * @param views Las imágenes de cada posición.
      */
-    private void updateCards(Player player, ImageView card1, ImageView card2, ImageView card3, ImageView card4) {
-        List<Card> cards = player.getHand();
-
-        // Asegurarse de que la computadora siempre tenga 4 cartas visibles
-        for (int i = 0; i < 4; i++) {
-            ImageView currentCardView = null;
-
-            // Dependiendo del índice, asignamos la carta correspondiente
-            switch (i) {
-                case 0: currentCardView = card1; break;
-                case 1: currentCardView = card2; break;
-                case 2: currentCardView = card3; break;
-                case 3: currentCardView = card4; break;
-            }
-
-            // Si el jugador tiene suficientes cartas, actualizamos la imagen
-            if (i < cards.size()) {
-                try {
-                    // Intentamos cargar la imagen de la carta actual
-                    Image image = new Image(getClass().getResourceAsStream("/images/" + cards.get(i).getImageName() + ".png"));
-                    currentCardView.setImage(image);  // Actualizamos la imagen de la carta
-                } catch (NullPointerException e) {
-                    // Si no se encuentra la imagen, mostramos un mensaje de error
-                    System.out.println("Imagen no encontrada para: " + cards.get(i).getImageName());
-                }
-            } else {
-                // Si no hay más cartas, seleccionamos una carta aleatoria
-                Random rand = new Random();
-                int randomIndex = rand.nextInt(cards.size());  // Generamos un índice aleatorio
-
-                // Obtenemos la carta aleatoria
-                Card randomCard = cards.get(randomIndex);
-                try {
-                    // Intentamos cargar la imagen de la carta aleatoria
-                    Image image = new Image(getClass().getResourceAsStream("/images/" + randomCard.getImageName() + ".png"));
-                    currentCardView.setImage(image);  // Actualizamos la imagen con la carta aleatoria
-                } catch (NullPointerException e) {
-                    // Si no se encuentra la imagen, mostramos un mensaje de error
-                    System.out.println("Imagen no encontrada para: " + randomCard.getImageName());
-                }
+    private void updateCards(List<Card> cards, Card[] slots, ImageView[] views) {
+        for (int i = 0; i < views.length; i++) {
+            Card card = i < cards.size() ? cards.get(i) : null;
+            if (card == slots[i]) {
+                continue;  // Las cartas son instancias compartidas: misma referencia, misma carta
             }
+            slots[i] = card;
+            CardImageCache.HAND.show(views[i], card);  // Recorte del atlas ya decodificado
         }
     }
 
     /**
      * Muestra el mensaje de ganador en la interfaz de usuario.
      *
-     * @param winner El nombre del jugador que ganó, o "Nadie" si no hay ganador.
+     * @param winner El nombre del jugador que ganó.
      */
     private void showWinner(String winner) {
-        if (playerEliminated() && computerEliminated()) {
-            showPopup("¡Nadie ha ganado, la suma ha superado 50!", true);
-        } else if (playerEliminated()) {
-            showPopup("¡El jugador ha sido eliminado, la suma ha superado 50!", true);
-        } else if (computerEliminated()) {
+        if (playerEliminated()) {
+            showPopup("¡El jugador ha sido eliminado, la suma ha superado 50! " + winner + " ha ganado.", true);
+        } else if (shown.getSeatCount() == 2) {
             showPopup("¡La computadora ha sido eliminada, la suma ha superado 50!", true);
         } else {
             String message = "¡" + winner + " ha ganado!";
@@ -302,40 +458,15 @@ public class GameController {
     }
 
     /**
-     * Método que verifica si el jugador está eliminado porque no puede jugar debido a la suma en la mesa.
+     * Método que verifica si el jugador fue eliminado por no poder jugar sin superar 50.
      */
     private boolean playerEliminated() {
-        return game.getPlayer().getHand().stream()
-                .noneMatch(card -> (game.getTableSum() + card.getValue()) <= 50);
-    }
-
-    /**
-     * Método que verifica si la computadora está eliminada porque no puede jugar debido a la suma en la mesa.
-     */
-    private boolean computerEliminated() {
-        return game.getComputer().getHand().stream()
-                .noneMatch(card -> (game.getTableSum() + card.getValue()) <= 50);
+        return shown.isEliminated(0);
     }
 
     @FXML
     public void endGameButton(javafx.event.ActionEvent actionEvent) {
-        try {
-            // Cargar la vista del menú principal (MenuPrincipal.fxml)
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/MenuPrincipal.fxml"));
-            Parent root = loader.load();
-
-            // Obtener el Stage (ventana actual) desde el evento
-            Stage stage = (Stage) ((javafx.scene.Node) actionEvent.getSource()).getScene().getWindow();
-
-            // Establecer la nueva escena
-            stage.setScene(new Scene(root));
-
-            // Mostrar la nueva ventana
-            stage.show();
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        endGame();
     }
 
     /**
@@ -1,19 +1,62 @@
 package ethan.cincuentazo.controllers;
 
+import ethan.cincuentazo.AssetPreloader;
+import javafx.concurrent.Worker;
 import javafx.fxml.FXML;
 import ethan.cincuentazo.Main;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextInputDialog;
 
 public class MenuController {
 
+    @FXML
+    private ProgressBar preloadBar;  // Progress of the game board preparation
+    @FXML
+    private Label preloadLabel;  // Current step of the game board preparation
+
+    /**
+     * Method called when the view is loaded. Shows the progress of the background
+     * preparation of the game board, and hides it once the board is ready.
+     */
+    @FXML
+    private void initialize() {
+        AssetPreloader preloader = Main.getPreloader();
+        if (preloader == null || preloader.isDone()) {
+            hidePreloadProgress();
+            return;
+        }
+        preloadBar.progressProperty().bind(preloader.progressProperty());
+        preloadLabel.textProperty().bind(preloader.messageProperty());
+        preloader.stateProperty().addListener((observable, previous, state) -> {
+            if (state == Worker.State.SUCCEEDED || state == Worker.State.FAILED || state == Worker.State.CANCELLED) {
+                hidePreloadProgress();
+            }
+        });
+    }
+
+    // Hides the preparation progress; if it failed, the board is loaded when the game starts
+    private void hidePreloadProgress() {
+        preloadBar.progressProperty().unbind();
+        preloadLabel.textProperty().unbind();
+        preloadBar.setVisible(false);
+        preloadLabel.setVisible(false);
+    }
+
     /**
      * Method that starts the game by loading the game board view.
+     * The user chooses how many computers play against them.
      */
     @FXML
     private void startGame() {
-        Main.loadView("GameBoard.fxml");
+        int computers = askForNumberOfPlayers();
+        if (computers == -1) {
+            return;
+        }
+        // Instant once the board is preloaded; otherwise it starts when the preload finishes
+        Main.<GameController>loadGameBoard(controller -> controller.startGame(computers + 1));
     }
 
     /**
@@ -42,21 +85,25 @@ public class MenuController {
 
 
     /**
-     * Prompts the user to enter the number of players for the game.
+     * Prompts the user to enter the number of computer players for the game.
      * The number of players must be between 1 and 3.
      *
-     * @return The number of players selected by the user. If the entered value is invalid, returns -1.
+     * @return The number of players selected by the user. If the entered value is invalid
+     *         or the dialog is cancelled, returns -1.
      */
     private int askForNumberOfPlayers() {
         // Create a text input dialog for the user to enter the number of players
-        TextInputDialog dialog = new TextInputDialog("3");  // Default value is 3
+        TextInputDialog dialog = new TextInputDialog("1");  // Default value is 1
         dialog.setTitle("Number of Players");
-        dialog.setHeaderText("Select the number of players (1-3)");
+        dialog.setHeaderText("Select the number of computer players (1-3)");
         dialog.setContentText("Number of players:");
 
         // Get the value entered by the user
         try {
-            String input = dialog.showAndWait().orElse("");
+            String input = dialog.showAndWait().orElse(null);
+            if (input == null) {
+                return -1;  // The user cancelled the dialog
+            }
             int numPlayers = Integer.parseInt(input);
 
             // Validate that the number is between 1 and 3
@@ -0,0 +1,157 @@
+package ethan.cincuentazo.controllers;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Programa los turnos de la computadora sin crear un hilo por turno.
+ *
+ * Todas las instancias comparten un único hilo de fondo. Cada turno espera la pausa
+ * configurada (que puede ser cero), calcula su decisión en ese hilo y la aplica en el
+ * hilo de JavaFX. Solo puede haber un turno pendiente por instancia, y `cancel` descarta
+ * el turno pendiente aunque su decisión ya esté en camino: cada turno lleva el número de
+ * generación con el que se programó y se ignora si ya no coincide. Si el cálculo falla,
+ * el error se entrega en el hilo de JavaFX a la función de fallo del turno, que decide
+ * cómo seguir; nada se vuelve a programar solo.
+ *
+ * Salvo el cálculo, todos los métodos se deben llamar desde el hilo de JavaFX.
+ */
+public class TurnScheduler {
+
+    // Hilo compartido por todas las partidas; es de fondo para no impedir que la aplicación termine
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "turn-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long delayMillis;  // Pausa antes de calcular cada turno
+    private long generation;  // Se incrementa al cancelar; invalida los turnos en camino
+    private ScheduledFuture<?> pending;  // Turno programado que todavía no se aplicó, o null
+
+    /**
+     * Crea un programador de turnos.
+     *
+     * @param delayMillis La pausa antes de cada turno, en milisegundos; 0 para no esperar.
+     */
+    public TurnScheduler(long delayMillis) {
+        setDelayMillis(delayMillis);
+    }
+
+    /**
+     * Cambia la pausa antes de cada turno. No afecta al turno ya programado.
+     *
+     * @param delayMillis La pausa, en milisegundos; 0 para no esperar.
+     */
+    public void setDelayMillis(long delayMillis) {
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("La pausa no puede ser negativa: " + delayMillis);
+        }
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Obtiene la pausa antes de cada turno.
+     *
+     * @return La pausa, en milisegundos.
+     */
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    /**
+     * Programa un turno: tras la pausa, `decide` se ejecuta en el hilo de fondo y su
+     * resultado se entrega a `apply` en el hilo de JavaFX, salvo que el turno se haya
+     * cancelado antes. Si `decide` falla, el error se entrega a `fail` en el hilo de JavaFX.
+     *
+     * @param decide El cálculo de la jugada; no debe modificar el estado de la interfaz.
+     * @param apply La aplicación de la jugada en el hilo de JavaFX.
+     * @param fail Recibe el error del cálculo en el hilo de JavaFX; una `ExecutionException`
+     *             llega como su causa.
+     * @param <T> El tipo de la decisión.
+     * @return `true` si se programó, `false` si ya había un turno pendiente.
+     */
+    public <T> boolean schedule(Callable<T> decide, Consumer<T> apply, Consumer<Throwable> fail) {
+        return schedule(delayMillis, decide, apply, fail);
+    }
+
+    /**
+     * Programa un turno con una pausa distinta de la configurada, por ejemplo 0 para
+     * aplicar de inmediato la jugada del jugador.
+     *
+     * @param delayMillis La pausa, en milisegundos.
+     * @param decide El cálculo de la jugada; no debe modificar el estado de la interfaz.
+     * @param apply La aplicación de la jugada en el hilo de JavaFX.
+     * @param fail Recibe el error del cálculo en el hilo de JavaFX; una `ExecutionException`
+     *             llega como su causa.
+     * @param <T> El tipo de la decisión.
+     * @return `true` si se programó, `false` si ya había un turno pendiente.
+     */
+    public <T> boolean schedule(long delayMillis, Callable<T> decide, Consumer<T> apply, Consumer<Throwable> fail) {
+        if (pending != null) {
+            return false;  // Un clic rápido no debe programar un segundo turno
+        }
+        long scheduled = generation;
+        pending = EXECUTOR.schedule(() -> {
+            T decision;
+            try {
+                decision = decide.call();
+            } catch (InterruptedException e) {
+                return;  // El turno se canceló mientras se calculaba
+            } catch (Exception e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                Platform.runLater(() -> {
+                    if (finish(scheduled)) {
+                        fail.accept(cause);
+                    }
+                });
+                return;
+            }
+            Platform.runLater(() -> {
+                if (finish(scheduled)) {
+                    apply.accept(decision);
+                }
+            });
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    // Libera el turno pendiente si sigue vigente; devuelve si la decisión se debe aplicar
+    private boolean finish(long scheduled) {
+        if (scheduled != generation) {
+            return false;
+        }
+        pending = null;
+        return true;
+    }
+
+    /**
+     * Indica si hay un turno programado que todavía no se aplicó.
+     *
+     * @return `true` si hay un turno pendiente.
+     */
+    public boolean isPending() {
+        return pending != null;
+    }
+
+    /**
+     * Cancela el turno pendiente, si lo hay. Si su cálculo ya estaba en curso se
+     * interrumpe, y su decisión se descarta aunque llegue después. Lo que el cálculo ya
+     * haya pedido a otro hilo no se deshace: una jugada encolada en un `GameLoop` se
+     * cancela allí (ver `GameLoop.cancelMoves`).
+     */
+    public void cancel() {
+        generation++;
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package ethan.cincuentazo.metrics;
+
+/**
+ * Contadores del juego. Cada uno se publica en JMX como
+ * `ethan.cincuentazo:type=Counter,name=<metricName>`.
+ */
+public enum Counter {
+    /** Jugadas aplicadas en cualquier partida, incluidas las de la simulación y el servidor. */
+    TURNS_APPLIED("turnsApplied"),
+    /** Veces que se barajó el mazo al devolverle las cartas de un eliminado. */
+    DECK_RESHUFFLES("deckReshuffles"),
+    /** Imágenes de cartas que ya estaban decodificadas. */
+    IMAGE_CACHE_HITS("imageCacheHits"),
+    /** Imágenes de cartas (o atlas) que hubo que leer y decodificar. */
+    IMAGE_CACHE_MISSES("imageCacheMisses"),
+    /** Cambios de la vista que muestra la ventana. */
+    SCENE_SWITCHES("sceneSwitches"),
+    /** Pulsos de JavaFX que tardaron más que el umbral de `FrameMonitor`. */
+    LONG_PULSES("longPulses");
+
+    private final String metricName;
+
+    Counter(String metricName) {
+        this.metricName = metricName;
+    }
+
+    /**
+     * Obtiene el nombre con el que se publica el contador.
+     *
+     * @return El nombre del contador.
+     */
+    public String metricName() {
+        return metricName;
+    }
+}
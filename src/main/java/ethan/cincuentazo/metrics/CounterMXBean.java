@@ -0,0 +1,19 @@
+package ethan.cincuentazo.metrics;
+
+/**
+ * Contador publicado en JMX.
+ */
+public interface CounterMXBean {
+
+    /**
+     * Obtiene el valor del contador.
+     *
+     * @return La cantidad contada desde el arranque o desde el último `reset`.
+     */
+    long getCount();
+
+    /**
+     * Vuelve el contador a 0.
+     */
+    void reset();
+}
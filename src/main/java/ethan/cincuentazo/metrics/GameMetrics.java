@@ -0,0 +1,92 @@
+package ethan.cincuentazo.metrics;
+
+/**
+ * Punto de acceso a las métricas del juego.
+ *
+ * La implementación se elige una sola vez, al cargar la clase, con la propiedad
+ * `cincuentazo.metrics`:
+ * <ul>
+ *     <li>`off` (por defecto): no se registra nada.</li>
+ *     <li>`jmx`: contadores e histogramas publicados como MXBeans (ver `JmxMetrics`).</li>
+ *     <li>El nombre de una clase que implemente `Metrics` con un constructor sin argumentos.</li>
+ * </ul>
+ * Como la implementación queda en un campo final estático, con las métricas desactivadas
+ * cada llamada se reduce a una comprobación constante que el JIT elimina.
+ */
+public final class GameMetrics {
+
+    private static final Metrics METRICS = create(System.getProperty("cincuentazo.metrics", "off"));
+
+    /** Indica si las métricas se registran. */
+    public static final boolean ENABLED = METRICS.isEnabled();
+
+    private GameMetrics() {
+    }
+
+    // Crea la implementación pedida; si no se puede, sigue sin métricas
+    private static Metrics create(String name) {
+        try {
+            return switch (name) {
+                case "off", "" -> NoopMetrics.INSTANCE;
+                case "jmx" -> new JmxMetrics();
+                default -> (Metrics) Class.forName(name).getConstructor().newInstance();
+            };
+        } catch (ReflectiveOperationException | ClassCastException | IllegalStateException e) {
+            System.out.println("No se pudieron activar las métricas " + name + ": " + e);
+            return NoopMetrics.INSTANCE;
+        }
+    }
+
+    /**
+     * Obtiene la implementación de las métricas.
+     *
+     * @return Las métricas en uso.
+     */
+    public static Metrics get() {
+        return METRICS;
+    }
+
+    /**
+     * Suma uno a un contador.
+     *
+     * @param counter El contador.
+     */
+    public static void increment(Counter counter) {
+        if (ENABLED) {
+            METRICS.increment(counter);
+        }
+    }
+
+    /**
+     * Registra una latencia ya medida.
+     *
+     * @param latency La latencia medida.
+     * @param nanos La duración, en nanosegundos.
+     */
+    public static void record(Latency latency, long nanos) {
+        if (ENABLED) {
+            METRICS.record(latency, nanos);
+        }
+    }
+
+    /**
+     * Empieza a medir una latencia.
+     *
+     * @return El momento de inicio para `stop`, o 0 si las métricas están desactivadas.
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Termina de medir una latencia y la registra.
+     *
+     * @param latency La latencia medida.
+     * @param start El valor devuelto por `start`.
+     */
+    public static void stop(Latency latency, long start) {
+        if (ENABLED) {
+            METRICS.record(latency, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ethan.cincuentazo.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas publicadas como MXBeans en el servidor de la plataforma: un
+ * `ethan.cincuentazo:type=Counter,name=...` por contador y un
+ * `ethan.cincuentazo:type=Latency,name=...` por latencia. Se pueden ver con JConsole o
+ * JDK Mission Control.
+ *
+ * Registrar es barato y no bloquea: los contadores son `LongAdder` y los histogramas usan
+ * contadores atómicos por casillero.
+ */
+public class JmxMetrics implements Metrics {
+
+    private static final String DOMAIN = "ethan.cincuentazo";
+
+    private final LongAdder[] counters = new LongAdder[Counter.values().length];  // Por ordinal de Counter
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Latency.values().length];  // Por ordinal de Latency
+
+    /**
+     * Crea las métricas y las registra en JMX.
+     *
+     * @throws IllegalStateException Si no se pudieron registrar.
+     */
+    public JmxMetrics() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (Counter counter : Counter.values()) {
+                LongAdder adder = new LongAdder();
+                counters[counter.ordinal()] = adder;
+                CounterMXBean bean = new CounterMXBean() {
+                    @Override
+                    public long getCount() {
+                        return adder.sum();
+                    }
+
+                    @Override
+                    public void reset() {
+                        adder.reset();
+                    }
+                };
+                server.registerMBean(bean, name("Counter", counter.metricName()));
+            }
+            for (Latency latency : Latency.values()) {
+                LatencyHistogram histogram = new LatencyHistogram();
+                latencies[latency.ordinal()] = histogram;
+                server.registerMBean(histogram, name("Latency", latency.metricName()));
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudieron registrar las métricas en JMX", e);
+        }
+    }
+
+    // Nombre JMX de una métrica
+    private static ObjectName name(String type, String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + name);
+    }
+
+    @Override
+    public void increment(Counter counter) {
+        counters[counter.ordinal()].increment();
+    }
+
+    @Override
+    public void record(Latency latency, long nanos) {
+        latencies[latency.ordinal()].record(nanos);
+    }
+
+    /**
+     * Obtiene el valor de un contador.
+     *
+     * @param counter El contador.
+     * @return El valor actual.
+     */
+    public long count(Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    /**
+     * Obtiene un percentil de una latencia.
+     *
+     * @param latency La latencia.
+     * @param percentile El percentil, entre 0 y 100.
+     * @return El percentil, en nanosegundos.
+     */
+    public long percentileNanos(Latency latency, double percentile) {
+        return latencies[latency.ordinal()].percentileNanos(percentile);
+    }
+}
@@ -0,0 +1,29 @@
+package ethan.cincuentazo.metrics;
+
+/**
+ * Latencias medidas del juego. Cada una se publica en JMX como
+ * `ethan.cincuentazo:type=Latency,name=<metricName>`.
+ */
+public enum Latency {
+    /** Tiempo de la estrategia de la computadora en decidir una jugada. */
+    COMPUTER_DECISION("computerDecision"),
+    /** Tiempo en el hilo de JavaFX para actualizar el tablero por un evento o una fotografía. */
+    UI_UPDATE("uiUpdate"),
+    /** Tiempo entre dos pulsos de JavaFX, medido por `FrameMonitor` cuando está encendido. */
+    FRAME_TIME("frameTime");
+
+    private final String metricName;
+
+    Latency(String metricName) {
+        this.metricName = metricName;
+    }
+
+    /**
+     * Obtiene el nombre con el que se publica la latencia.
+     *
+     * @return El nombre de la latencia.
+     */
+    public String metricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,127 @@
+package ethan.cincuentazo.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias sin candados, de tamaño fijo.
+ *
+ * Los valores menores que 8 ns tienen un casillero cada uno; a partir de ahí cada potencia
+ * de dos se divide en cuatro casilleros, así que un percentil se informa con un error
+ * relativo de a lo sumo 25 %, desde nanosegundos hasta siglos, en 256 contadores.
+ */
+final class LatencyHistogram implements LatencyMXBean {
+
+    private static final int LINEAR = 8;  // Valores con casillero propio
+    private static final int SUB_BUCKETS = 4;  // Casilleros por potencia de dos
+    private static final int BUCKETS = 256;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);  // Mediciones por casillero
+    private final LongAdder count = new LongAdder();  // Cantidad de mediciones
+    private final LongAdder total = new LongAdder();  // Suma de las mediciones, en nanosegundos
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);  // Medición más larga
+
+    /**
+     * Registra una medición.
+     *
+     * @param nanos La duración, en nanosegundos; los valores negativos cuentan como 0.
+     */
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    // Casillero de un valor: lineal hasta 8, después cuatro por potencia de dos
+    private static int bucket(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);  // Al menos 3
+        int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - 3) * SUB_BUCKETS + sub;
+    }
+
+    // Mayor valor que cae en un casillero
+    private static long upperBound(int bucket) {
+        if (bucket < LINEAR) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR) / SUB_BUCKETS + 3;
+        int sub = (bucket - LINEAR) % SUB_BUCKETS;
+        long width = 1L << (exponent - 2);
+        return (SUB_BUCKETS + sub) * width + width - 1;
+    }
+
+    /**
+     * Obtiene un percentil de las mediciones, redondeado hacia arriba al límite de su
+     * casillero.
+     *
+     * @param percentile El percentil, entre 0 y 100.
+     * @return El percentil, en nanosegundos, o 0 si no hay mediciones.
+     */
+    long percentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            seen += counts[i];
+        }
+        if (seen == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(seen * percentile / 100.0));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0 : total.sum() / 1_000.0 / n;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return percentileNanos(50) / 1_000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return percentileNanos(99) / 1_000.0;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return percentileNanos(99.9) / 1_000.0;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return max.get() / 1_000.0;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,55 @@
+package ethan.cincuentazo.metrics;
+
+/**
+ * Histograma de latencias publicado en JMX. Los percentiles tienen un error relativo de
+ * a lo sumo 25 %.
+ */
+public interface LatencyMXBean {
+
+    /**
+     * Obtiene la cantidad de mediciones.
+     *
+     * @return Las mediciones desde el arranque o desde el último `reset`.
+     */
+    long getCount();
+
+    /**
+     * Obtiene la media de las mediciones.
+     *
+     * @return La media, en microsegundos.
+     */
+    double getMeanMicros();
+
+    /**
+     * Obtiene la mediana de las mediciones.
+     *
+     * @return El percentil 50, en microsegundos.
+     */
+    double getP50Micros();
+
+    /**
+     * Obtiene el percentil 99 de las mediciones.
+     *
+     * @return El percentil 99, en microsegundos.
+     */
+    double getP99Micros();
+
+    /**
+     * Obtiene el percentil 99,9 de las mediciones.
+     *
+     * @return El percentil 99,9, en microsegundos.
+     */
+    double getP999Micros();
+
+    /**
+     * Obtiene la medición más larga.
+     *
+     * @return El máximo, en microsegundos.
+     */
+    double getMaxMicros();
+
+    /**
+     * Descarta todas las mediciones.
+     */
+    void reset();
+}
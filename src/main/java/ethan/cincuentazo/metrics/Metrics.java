@@ -0,0 +1,35 @@
+package ethan.cincuentazo.metrics;
+
+/**
+ * Destino de las métricas del juego. La implementación se elige al arrancar con la
+ * propiedad `cincuentazo.metrics` (ver `GameMetrics`); los métodos se llaman desde
+ * cualquier hilo, en los caminos más usados del juego, así que deben ser baratos y no
+ * bloquear.
+ */
+public interface Metrics {
+
+    /**
+     * Suma uno a un contador.
+     *
+     * @param counter El contador.
+     */
+    void increment(Counter counter);
+
+    /**
+     * Registra una medición de latencia.
+     *
+     * @param latency La latencia medida.
+     * @param nanos La duración, en nanosegundos.
+     */
+    void record(Latency latency, long nanos);
+
+    /**
+     * Indica si las métricas se registran. Si es `false`, quien mide puede evitar incluso
+     * leer el reloj.
+     *
+     * @return `true` si las métricas se registran.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package ethan.cincuentazo.metrics;
+
+/**
+ * Métricas desactivadas: no registran nada. Es la implementación por defecto; como es la
+ * única que ve el JIT, sus llamadas se eliminan al compilar.
+ */
+enum NoopMetrics implements Metrics {
+    INSTANCE;
+
+    @Override
+    public void increment(Counter counter) {
+    }
+
+    @Override
+    public void record(Latency latency, long nanos) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+package ethan.cincuentazo.model;
+
+/**
+ * Catálogo canónico de las 52 cartas de la baraja (patrón Flyweight).
+ *
+ * Cada carta existe una sola vez y se identifica por un ordinal pequeño
+ * (`palo * 13 + rango`). El mazo, los jugadores y el juego comparten estas
+ * instancias, de modo que repartir o reiniciar una partida no crea cartas nuevas.
+ * Los valores de las cartas y las reglas para jugarlas (`valueOf`, `playedValue`,
+ * `legalMask`) se leen de las tablas de `RuleSet.STANDARD`, donde se declaran una
+ * sola vez; las variantes usan su propio `RuleSet`.
+ */
+public final class CardCatalog {
+
+    /** Número de cartas de la baraja (sin comodines). */
+    public static final int SIZE = 52;
+
+    /** Número de rangos por palo. */
+    public static final int RANKS_PER_SUIT = 13;
+
+    // Palos y rangos en el mismo orden en que se construía el mazo original
+    private static final String[] SUITS = {"Corazones", "Diamantes", "Treboles", "Picas"};
+    private static final String[] RANKS = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+
+    /** Máscara con un bit encendido por cada una de las 52 cartas. */
+    public static final long ALL_CARDS = (1L << SIZE) - 1;
+
+    private static final int ACE_RANK = 12;  // Posición del As dentro de RANKS
+
+    private static final Card[] CARDS = new Card[SIZE];  // Las instancias compartidas
+
+    static {
+        for (int suit = 0; suit < SUITS.length; suit++) {
+            for (int rank = 0; rank < RANKS.length; rank++) {
+                int ordinal = suit * RANKS_PER_SUIT + rank;
+                CARDS[ordinal] = new Card(ordinal, RANKS[rank], SUITS[suit], RuleSet.STANDARD.valueOf(ordinal));
+            }
+        }
+    }
+
+    private CardCatalog() {
+    }
+
+    /**
+     * Obtiene la carta compartida con el ordinal indicado.
+     *
+     * @param ordinal El ordinal de la carta (0-51).
+     * @return La instancia única de esa carta.
+     * @throws ArrayIndexOutOfBoundsException Si el ordinal está fuera de rango.
+     */
+    public static Card get(int ordinal) {
+        return CARDS[ordinal];
+    }
+
+    /**
+     * Busca la carta compartida por su nombre y palo.
+     *
+     * @param name El nombre de la carta (ej. "A", "2", "J").
+     * @param suit El palo de la carta (ej. "Diamantes", "Corazones").
+     * @return La instancia única de esa carta.
+     * @throws IllegalArgumentException Si el nombre o el palo no existen.
+     */
+    public static Card of(String name, String suit) {
+        int rank = indexOf(RANKS, name);
+        int suitIndex = indexOf(SUITS, suit);
+        if (rank < 0 || suitIndex < 0) {
+            throw new IllegalArgumentException("Carta inválida: " + name + " de " + suit);
+        }
+        return CARDS[suitIndex * RANKS_PER_SUIT + rank];
+    }
+
+    /**
+     * Obtiene el valor de una carta con las reglas estándar (el del As es su valor bajo).
+     *
+     * @param ordinal El ordinal de la carta (0-51).
+     * @return El valor de la carta.
+     */
+    public static int valueOf(int ordinal) {
+        return RuleSet.STANDARD.valueOf(ordinal);
+    }
+
+    /**
+     * Indica si el ordinal corresponde a un As.
+     *
+     * @param ordinal El ordinal de la carta (0-51).
+     * @return `true` si la carta es un As.
+     */
+    public static boolean isAce(int ordinal) {
+        return ordinal % RANKS_PER_SUIT == ACE_RANK;
+    }
+
+    /**
+     * Calcula cuánto suma una carta al jugarse sobre la mesa. El As suma 10 si
+     * con eso la mesa no supera 50, y 1 en caso contrario; el resto de las
+     * cartas suma su valor de la tabla.
+     *
+     * @param ordinal El ordinal de la carta (0-51).
+     * @param tableSum La suma actual de la mesa.
+     * @return El valor que aporta la carta a la suma.
+     */
+    public static int playedValue(int ordinal, int tableSum) {
+        return RuleSet.STANDARD.playedValue(ordinal, tableSum);
+    }
+
+    /**
+     * Obtiene la máscara de cartas que se pueden jugar sobre la suma indicada sin
+     * superar 50. Un jugador puede jugar si `(mano & legalMask(suma)) != 0`.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @return Una máscara con un bit encendido por cada carta jugable.
+     */
+    public static long legalMask(int tableSum) {
+        return RuleSet.STANDARD.legalMask(tableSum);
+    }
+
+    /**
+     * Obtiene el bit que representa una carta dentro de una máscara de mano.
+     *
+     * @param ordinal El ordinal de la carta (0-51).
+     * @return La máscara con solo el bit de esa carta encendido.
+     */
+    public static long bit(int ordinal) {
+        return 1L << ordinal;
+    }
+
+    // Busca la posición de un texto en un arreglo, o -1 si no está
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
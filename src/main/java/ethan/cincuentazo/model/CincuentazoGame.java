@@ -1,160 +1,609 @@
 package ethan.cincuentazo.model;
 
-import javafx.application.Platform;
+import ethan.cincuentazo.metrics.Counter;
+import ethan.cincuentazo.metrics.GameMetrics;
+import ethan.cincuentazo.metrics.Latency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Clase que gestiona el juego de Cincuentazo. Controla el mazo de cartas, los jugadores,
  * la mesa de juego, la lógica de las jugadas y el flujo general del juego.
  *
- * El juego consiste en que un jugador humano y una computadora jueguen turnos, seleccionando
- * cartas que sumen a una acumulación en la mesa. El objetivo es que la suma de las cartas en
- * la mesa no supere los 50 puntos.
+ * El juego consiste en que un jugador humano y una o más computadoras jueguen turnos,
+ * seleccionando cartas que sumen a una acumulación en la mesa. El objetivo es que la suma
+ * de las cartas en la mesa no supere los 50 puntos: quien no puede jugar sin superarla queda
+ * eliminado, sus cartas vuelven al mazo y gana el último jugador que quede. Las cartas que
+ * quedan debajo de la de la mesa van a una `DiscardPile`; cuando el mazo se agota, el
+ * descarte se baraja como mazo nuevo, así que las partidas pueden durar indefinidamente.
+ *
+ * Los jugadores ocupan asientos: el asiento 0 es el jugador humano y los demás son
+ * computadoras. El orden de turnos es un `TurnRing`, así que pasar el turno y eliminar
+ * un asiento cuestan lo mismo con 2 que con 10 asientos.
+ *
+ * El motor es síncrono y no depende de JavaFX ni de hilos: cada jugada se aplica con
+ * `applyPlayerMove` o `applyComputerMove` y el estado se consulta con los getters. El ritmo
+ * de la partida (las pausas de la computadora) corresponde a la capa de controladores.
+ *
+ * Toda la aleatoriedad sale de un único generador inyectable: de él se obtiene la semilla
+ * de cada reparto, y el mazo se baraja con un `GameRandom` sembrado con ella. Con la
+ * semilla del reparto y las jugadas (ver `GameLog`) se reproduce cualquier partida.
+ *
+ * Cada cambio se notifica como un `GameEvent` a los `GameListener` registrados, en el
+ * mismo hilo que aplica la jugada. Sin oyentes no se crean eventos.
+ *
+ * El estado completo se puede empaquetar en unos pocos `long` con `snapshot` y volver a
+ * cargar con `restore` (ver `PackedState`), para guardar partidas, buscar jugadas,
+ * marcar puntos de una reproducción o sincronizar mesas.
+ *
+ * Las reglas (valores, As, límite de la mesa, tamaño de la mano y eliminación) salen de
+ * un `RuleSet`; por defecto, `RuleSet.STANDARD`. Los registros (`GameLog`) guardan la
+ * variante y se reproducen con ella.
  */
 public class CincuentazoGame {
 
+    /** Cantidad de cartas que cada jugador mantiene en la mano con las reglas estándar. */
+    public static final int HAND_SIZE = 4;
+
+    /** Cantidad máxima de asientos: todas las manos y la carta inicial deben salir del mazo. */
+    public static final int MAX_SEATS = 10;
+
+    private final RuleSet rules;  // Reglas de la partida
+    private final RandomGenerator random;  // Origen de las semillas de cada reparto
+    private final GameRandom dealRandom = new GameRandom(0L);  // Generador con el que se baraja el mazo
+    private long seed;  // Semilla del reparto actual
+    private GameLog log;  // Registro de la partida, o null si no se registra
+
     private Deck deck;  // El mazo de cartas utilizado en el juego
-    private Player player;  // El jugador humano
-    private Player computer;  // El jugador de la computadora
+    private final DiscardPile discard = new DiscardPile();  // Cartas que quedaron debajo de la de la mesa
+    private final byte[] order = new byte[CardCatalog.SIZE];  // Espacio para copiar el mazo o el descarte al empaquetar
+    private final Player[] seats;  // Los jugadores; el asiento 0 es el jugador humano
+    private final Card[] lastCards;  // La última carta jugada desde cada asiento
+    private final TurnRing turns;  // Orden de turnos de los asientos en juego
     private int tableSum;  // La suma de las cartas actualmente en la mesa
     private Card cardOnTable;  // La carta que está sobre la mesa actualmente
 
-    private Card lastPlayerCard;  // La última carta jugada por el jugador
-    private Card lastComputerCard;  // La última carta jugada por la computadora
+    private Card lastComputerCard;  // La última carta jugada por alguna computadora
+
+    private Player winner;  // El ganador de la partida, o null si sigue en curso
+    private int turnCount;  // Cantidad de jugadas aplicadas en la partida
+    private long playedMask;  // Carta de la mesa y descarte (información pública)
+
+    private ComputerStrategy computerStrategy = ComputerStrategy.FIRST_PLAYABLE;  // Cómo elige carta la computadora
+    private final List<GameListener> listeners = new ArrayList<>();  // Oyentes de los eventos de la partida
 
     /**
      * Constructor de la clase `CincuentazoGame`. Inicializa el mazo de cartas, los jugadores,
      * la suma de la mesa y reparte las cartas a los jugadores.
      */
     public CincuentazoGame() {
-        deck = new Deck();
-        player = new Player("Player");
-        computer = new Player("Computer");
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor que deriva todas las partidas de una semilla.
+     *
+     * @param seed La semilla del generador del juego.
+     */
+    public CincuentazoGame(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor de una partida entre el jugador y una computadora que usa el generador
+     * indicado para obtener la semilla de cada reparto. Con un generador con semilla fija
+     * las partidas son reproducibles.
+     *
+     * @param random El generador de números aleatorios del juego.
+     */
+    public CincuentazoGame(RandomGenerator random) {
+        this(2, random);
+    }
+
+    /**
+     * Constructor de una partida con la cantidad de asientos indicada: el jugador y
+     * `seatCount - 1` computadoras.
+     *
+     * @param seatCount La cantidad de asientos, entre 2 y 10.
+     * @param random El generador de números aleatorios del juego.
+     * @throws IllegalArgumentException Si la cantidad de asientos está fuera de rango.
+     */
+    public CincuentazoGame(int seatCount, RandomGenerator random) {
+        this(seatCount, random, RuleSet.STANDARD);
+    }
+
+    /**
+     * Constructor de una partida con una variante de las reglas.
+     *
+     * @param seatCount La cantidad de asientos, entre 2 y 10.
+     * @param random El generador de números aleatorios del juego.
+     * @param rules Las reglas de la partida.
+     * @throws IllegalArgumentException Si la cantidad de asientos está fuera de rango o
+     *                                  las manos y la carta inicial no salen del mazo.
+     */
+    public CincuentazoGame(int seatCount, RandomGenerator random, RuleSet rules) {
+        if (seatCount < 2 || seatCount > MAX_SEATS) {
+            throw new IllegalArgumentException("La cantidad de asientos debe estar entre 2 y " + MAX_SEATS + ": " + seatCount);
+        }
+        if (seatCount * rules.getHandSize() + 1 > CardCatalog.SIZE) {
+            throw new IllegalArgumentException("No alcanzan las cartas para " + seatCount + " manos de " + rules.getHandSize());
+        }
+        this.rules = rules;
+        this.random = random;
+        deck = new Deck(dealRandom);
+        seats = new Player[seatCount];
+        seats[0] = new Player("Player");
+        for (int seat = 1; seat < seatCount; seat++) {
+            seats[seat] = new Player(seat == 1 ? "Computer" : "Computer " + seat);
+        }
+        lastCards = new Card[seatCount];
+        turns = new TurnRing(seatCount);
         tableSum = 0;
-        dealCards();
+        dealCards(random.nextLong());
     }
 
     /**
-     * Reparte las cartas al jugador y la computadora. Baraja el mazo y reparte 4 cartas a cada uno.
+     * Reparte las cartas a todos los asientos. Baraja el mazo y reparte una mano a cada uno.
      * Además, coloca una carta inicial en la mesa y establece su valor.
+     *
+     * @param seed La semilla con la que se baraja el mazo.
      */
-    private void dealCards() {
+    private void dealCards(long seed) {
+        this.seed = seed;
+        dealRandom.reseed(seed);
         deck.shuffle();  // Asegúrate de barajar el mazo antes de repartir
-        for (int i = 0; i < 4; i++) {
-            player.addCard(deck.drawCard());  // Añadir cartas al jugador
-            computer.addCard(deck.drawCard());  // Añadir cartas a la computadora
+        if (log != null) {
+            log.begin(seed, seats.length, rules, deck);
+        }
+        for (int i = 0; i < rules.getHandSize(); i++) {
+            for (Player seat : seats) {
+                seat.addCard(deck.drawCard());  // Añadir una carta a cada asiento
+            }
         }
         // Coloca una carta inicial en la mesa
         Card initialCard = deck.drawCard();
-        tableSum = initialCard.getValue();  // Asignar el valor de la carta inicial
+        tableSum = rules.playedValue(initialCard.getOrdinal(), 0);  // Asignar el valor de la carta inicial
         cardOnTable = initialCard;  // Guardar la carta en mesa
+        playedMask = CardCatalog.bit(initialCard.getOrdinal());
+        discard.clear();
+        Arrays.fill(lastCards, null);
+        lastComputerCard = null;
+        turns.reset();
+        winner = null;
+        turnCount = 0;
+        if (!listeners.isEmpty()) {
+            fire(new GameEvent.NewDeal(seed, seats.length));
+        }
+        eliminateBlockedSeats();
     }
 
     /**
-     * Método que maneja un turno del jugador y la computadora. El jugador selecciona una carta
-     * y la juega, luego la computadora juega su carta de forma automática.
+     * Aplica la jugada del jugador humano. La carta se coloca en la mesa, su valor se
+     * suma y el jugador roba para volver a tener 4 cartas mientras haya mazo.
      *
      * @param selectedPlayerCard El índice de la carta que el jugador selecciona para jugar.
+     * @return La carta jugada, o `null` si la jugada no es válida (no es su turno, el
+     *         índice no existe, la carta haría superar 50 o la partida terminó).
      */
-    public void playTurn(int selectedPlayerCard) {
-        // El jugador juega su carta seleccionada
-        Card playerCard = player.playCard(selectedPlayerCard);
-        if (playerCard != null) {
-            lastPlayerCard = playerCard;
-
-            // Coloca la carta jugada encima de la carta anterior en la mesa
-            cardOnTable = playerCard;
-
-            // Modifica la suma de la mesa con el valor de la carta jugada
-            tableSum += playerCard.getValue();
-
-            // Si la carta seleccionada es un 'A', puede sumar 1 o 10, dependiendo de la elección
-            if (playerCard.getName().equals("A")) {
-                // Lógica para que el jugador elija entre 1 o 10 para el As
-                // Actualmente, se suma 10 de forma predeterminada
-                tableSum += 10;
-            }
+    public Card applyPlayerMove(int selectedPlayerCard) {
+        if (!isPlayerTurn()) {
+            return null;
         }
+        return applyMove(selectedPlayerCard);
+    }
 
-        // El jugador roba una nueva carta del mazo para tener siempre 4 cartas en la mano
-        if (deck.hasCards()) {
-            player.addCard(deck.drawCard());
+    /**
+     * Aplica la jugada de la computadora a la que le toca, que elige su carta con la
+     * estrategia configurada.
+     *
+     * @return La carta jugada, o `null` si no es el turno de una computadora o la partida terminó.
+     */
+    public Card applyComputerMove() {
+        if (isPlayerTurn() || winner != null) {
+            return null;
+        }
+        long start = GameMetrics.start();
+        int index = computerStrategy.chooseCard(this, getCurrentPlayer());
+        GameMetrics.stop(Latency.COMPUTER_DECISION, start);
+        return applyComputerMove(index);
+    }
+
+    /**
+     * Aplica la jugada de la computadora a la que le toca con una carta ya elegida.
+     * Permite que la decisión se calcule fuera del hilo que modifica el juego. Si el
+     * índice no es una jugada válida, se juega la primera carta que no hace superar 50.
+     *
+     * @param index El índice en la mano de la carta elegida.
+     * @return La carta jugada, o `null` si no es el turno de una computadora o la partida terminó.
+     */
+    public Card applyComputerMove(int index) {
+        if (isPlayerTurn() || winner != null) {
+            return null;
+        }
+        Card computerCard = applyMove(index);
+        if (computerCard == null) {
+            computerCard = applyMove(getCurrentPlayer().firstPlayableIndex(tableSum, rules));
+        }
+        return computerCard;
+    }
+
+    /**
+     * Aplica una jugada del asiento al que le toca, sea el jugador o una computadora.
+     * La carta se coloca en la mesa, el asiento repone su mano, el turno pasa al siguiente
+     * asiento en juego y se eliminan los asientos que no puedan jugar.
+     *
+     * @param index El índice en la mano de la carta a jugar.
+     * @return La carta jugada, o `null` si la jugada no es válida o la partida terminó.
+     */
+    public Card applyMove(int index) {
+        if (winner != null) {
+            return null;
+        }
+        int seat = turns.current();
+        Player mover = seats[seat];
+        if (index < 0 || index >= mover.getHand().size()) {
+            return null;
+        }
+        int ordinal = mover.getHand().get(index).getOrdinal();
+        if ((mover.playableMask(tableSum, rules) & CardCatalog.bit(ordinal)) == 0) {
+            return null;  // La carta haría superar el límite
+        }
+        Card card = mover.playCard(index);
+        int oldSum = tableSum;
+        tableSum += rules.playedValue(ordinal, tableSum);
+        discard.add(cardOnTable.getOrdinal());
+        cardOnTable = card;  // Coloca la carta jugada encima de la carta anterior en la mesa
+        playedMask |= CardCatalog.bit(ordinal);
+        lastCards[seat] = card;
+        if (seat != 0) {
+            lastComputerCard = card;
+        }
+        turnCount++;
+        GameMetrics.increment(Counter.TURNS_APPLIED);
+        if (log != null) {
+            log.append(ordinal);
+        }
+        if (!listeners.isEmpty()) {
+            fire(new GameEvent.CardPlayed(seat, index, card));
+            if (tableSum != oldSum) {
+                fire(new GameEvent.SumChanged(oldSum, tableSum));
+            }
         }
 
-        // Verifica que la computadora siempre tenga 4 cartas
-        if (computer.getHand().size() < 4 && deck.hasCards()) {
-            computer.addCard(deck.drawCard());  // La computadora roba una carta si tiene menos de 4
+        // El jugador roba del mazo para tener siempre la mano completa
+        while (mover.getHand().size() < rules.getHandSize() && (deck.hasCards() || recycleDiscards())) {
+            Card drawn = deck.drawCard();
+            mover.addCard(drawn);
+            if (!listeners.isEmpty()) {
+                fire(new GameEvent.CardDrawn(seat, drawn, deck.size()));
+            }
         }
+        turns.advance();
+        eliminateBlockedSeats();
+        return card;
+    }
 
-        // Iniciar un hilo para la jugada de la computadora
-        new Thread(() -> {
-            try {
-                // Simulamos un retraso para la jugada de la computadora
-                Thread.sleep(1000);  // Esperar 1 segundo (simulando que la computadora "piensa")
+    /**
+     * Juega una carta por su ordinal en nombre de quien tenga el turno. Lo usa la
+     * reproducción de registros.
+     *
+     * @param ordinal El ordinal de la carta a jugar.
+     * @return La carta jugada, o `null` si quien tiene el turno no tiene esa carta o la partida terminó.
+     */
+    public Card applyCard(int ordinal) {
+        int index = getCurrentPlayer().indexOf(ordinal);
+        if (index < 0) {
+            return null;
+        }
+        return applyMove(index);
+    }
 
-                // La computadora juega su carta
-                Card computerCard = computer.playCard();
-                lastComputerCard = computerCard;
-                tableSum += computerCard.getValue();
+    /**
+     * Método que maneja un turno completo: el jugador juega la carta seleccionada y,
+     * si la jugada es válida, las computadoras responden de inmediato hasta que vuelva
+     * a ser su turno o termine la partida.
+     *
+     * @param selectedPlayerCard El índice de la carta que el jugador selecciona para jugar.
+     */
+    public void playTurn(int selectedPlayerCard) {
+        if (applyPlayerMove(selectedPlayerCard) != null) {
+            while (winner == null && !isPlayerTurn()) {
+                applyComputerMove();
+            }
+        }
+    }
 
-                // Usamos Platform.runLater() para actualizar la UI desde el hilo principal
-                Platform.runLater(() -> {
-                    // Actualizamos la interfaz de usuario después de que la computadora haya jugado
-                    updateUI();
-                });
+    // Baraja el descarte como mazo nuevo, si las reglas lo permiten y hay cartas; no reserva memoria
+    private boolean recycleDiscards() {
+        if (!rules.recyclesDiscards() || !discard.hasCards()) {
+            return false;
+        }
+        discard.refill(deck);
+        playedMask = CardCatalog.bit(cardOnTable.getOrdinal());  // Las cartas recicladas vuelven a ser desconocidas
+        GameMetrics.increment(Counter.DECK_RESHUFFLES);
+        if (!listeners.isEmpty()) {
+            fire(new GameEvent.DeckRecycled(deck.size()));
+        }
+        return true;
+    }
 
-                // Verificar si la suma supera 50 y terminar el juego
-                if (tableSum > 50) {
-                    Platform.runLater(() -> showWinner("Nadie"));
-                }
+    // Elimina al asiento actual mientras no pueda jugar; si queda uno solo, es el ganador
+    private void eliminateBlockedSeats() {
+        while (turns.size() > 1 && !seats[turns.current()].canPlay(tableSum, rules)) {
+            eliminate(turns.current());
+        }
+        if (turns.size() == 1 && winner == null) {
+            winner = seats[turns.current()];
+            if (!listeners.isEmpty()) {
+                fire(new GameEvent.GameOver(turns.current()));
+            }
+        }
+    }
 
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    // Saca al asiento del orden de turnos; según las reglas, sus cartas vuelven al mazo, que se vuelve a barajar
+    private void eliminate(int seat) {
+        Player eliminated = seats[seat];
+        long hand = eliminated.getHandMask();
+        if (hand != 0 && rules.getElimination() == RuleSet.Elimination.RETURN_TO_DECK) {
+            for (long mask = hand; mask != 0; mask &= mask - 1) {
+                deck.addCard(Long.numberOfTrailingZeros(mask));
             }
-        }).start();  // Inicia el hilo
+            deck.shuffle();
+            GameMetrics.increment(Counter.DECK_RESHUFFLES);
+        }
+        eliminated.clearHand();
+        turns.remove(seat);
+        if (!listeners.isEmpty()) {
+            fire(new GameEvent.PlayerEliminated(seat, deck.size()));
+        }
+    }
+
+    private void fire(GameEvent event) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onEvent(event);
+        }
     }
 
     /**
-     * Actualiza la interfaz de usuario con los cambios en la mesa y las cartas jugadas.
-     * Este método debe ser implementado según la lógica de la interfaz gráfica del juego.
+     * Registra un oyente de los eventos de la partida.
+     *
+     * @param listener El oyente.
      */
-    private void updateUI() {
-        // Aquí actualizarías la UI con los cambios en la mesa y las manos de los jugadores
-        // Por ejemplo, se puede actualizar con los valores de la suma en la mesa y las últimas cartas jugadas
-        System.out.println("Suma en la mesa: " + tableSum);
-        System.out.println("Última carta jugador: " + (lastPlayerCard != null ? lastPlayerCard.getName() : "Ninguna"));
-        System.out.println("Última carta computadora: " + (lastComputerCard != null ? lastComputerCard.getName() : "Ninguna"));
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
     }
 
     /**
-     * Muestra el ganador del juego.
+     * Quita un oyente registrado.
      *
-     * @param winner El nombre del ganador, puede ser "Player", "Computer" o "Nadie".
+     * @param listener El oyente.
      */
-    private void showWinner(String winner) {
-        System.out.println("El ganador es: " + winner);
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
     }
 
     /**
-     * Verifica si el juego ha terminado. El juego termina si la suma de las cartas en la mesa
-     * supera 50 o si alguno de los jugadores se queda sin cartas.
+     * Verifica si el juego ha terminado. El juego termina cuando queda un solo jugador
+     * en juego; los demás fueron eliminados al no poder jugar ninguna carta sin que la
+     * suma de la mesa supere 50 (incluido el caso de quedarse sin cartas).
      *
      * @return `true` si el juego ha terminado, de lo contrario `false`.
      */
     public boolean checkGameOver() {
-        // El juego termina si el jugador o la computadora se quedan sin cartas o si la suma de la mesa es mayor a 50
-        return player.getHand().isEmpty() || computer.getHand().isEmpty() || tableSum > 50;
+        return winner != null;
     }
 
     /**
-     * Reinicia el juego. Se vacían las manos de los jugadores, se limpia el mazo y se reparte
-     * nuevas cartas para comenzar una nueva partida.
+     * Reinicia el juego. Se vacían las manos de los jugadores, se restauran las 52 cartas
+     * del mazo y se reparten nuevas cartas para comenzar una nueva partida.
      */
     public void resetGame() {
-        player.clearHand();
-        computer.clearHand();
-        deck.clearDeck();
+        resetGame(random.nextLong());
+    }
+
+    /**
+     * Reinicia el juego con una semilla de reparto concreta, por ejemplo la de un `GameLog`.
+     *
+     * @param seed La semilla con la que se baraja el mazo.
+     */
+    public void resetGame(long seed) {
+        for (Player seat : seats) {
+            seat.clearHand();
+        }
+        deck.reset();
         tableSum = 0;
-        dealCards();
+        dealCards(seed);
+    }
+
+    /**
+     * Empaqueta el estado completo de la partida en un arreglo nuevo.
+     *
+     * @return El estado, de `PackedState.words(getSeatCount())` palabras.
+     */
+    public long[] snapshot() {
+        long[] state = new long[PackedState.words(seats.length)];
+        snapshot(state);
+        return state;
+    }
+
+    /**
+     * Empaqueta el estado completo de la partida en un arreglo ya reservado, sin reservar
+     * memoria: las cartas de cada mano, del mazo y del descarte en orden, la carta y la
+     * suma de la mesa, el turno, los asientos en juego, el ganador, el generador con que
+     * se baraja, la semilla del reparto y las últimas cartas jugadas. No incluye el
+     * generador de las semillas de los repartos siguientes, la estrategia, los oyentes
+     * ni el registro.
+     *
+     * @param state El arreglo destino, de `PackedState.words(getSeatCount())` palabras.
+     * @throws IllegalArgumentException Si el arreglo no tiene el largo de esta mesa.
+     */
+    public void snapshot(long[] state) {
+        if (state.length != PackedState.words(seats.length)) {
+            throw new IllegalArgumentException("El estado de " + seats.length + " asientos ocupa "
+                    + PackedState.words(seats.length) + " palabras: " + state.length);
+        }
+        Arrays.fill(state, 0L);
+        state[PackedState.HEADER] = PackedState.header(turnCount, tableSum, turns.current(),
+                winner == null ? -1 : seatOf(winner), lastComputerCard == null ? -1 : lastComputerCard.getOrdinal());
+        state[PackedState.COUNTS] = PackedState.counts(turns.aliveMask(), deck.size(), discard.size(), seats.length);
+        state[PackedState.RANDOM] = dealRandom.getState();
+        state[PackedState.SEED] = seed;
+
+        int index = 0;
+        long rest = CardCatalog.ALL_CARDS;  // Cartas que todavía no se escribieron
+        PackedState.setCard(state, index++, cardOnTable.getOrdinal());
+        rest &= ~CardCatalog.bit(cardOnTable.getOrdinal());
+        for (int seat = 0; seat < seats.length; seat++) {
+            List<Card> hand = seats[seat].getHand();
+            PackedState.setHandSize(state, seat, hand.size());
+            for (int i = 0; i < hand.size(); i++) {
+                PackedState.setCard(state, index++, hand.get(i).getOrdinal());
+            }
+            rest &= ~seats[seat].getHandMask();
+            PackedState.setLastCard(state, seat, lastCards[seat] == null ? -1 : lastCards[seat].getOrdinal());
+        }
+        deck.copyOrder(order);
+        for (int i = 0; i < deck.size(); i++) {
+            PackedState.setCard(state, index++, order[i]);
+            rest &= ~CardCatalog.bit(order[i]);
+        }
+        discard.copyOrder(order);
+        for (int i = 0; i < discard.size(); i++) {
+            PackedState.setCard(state, index++, order[i]);
+            rest &= ~CardCatalog.bit(order[i]);
+        }
+        // Lo que queda salió de la partida con un eliminado; su orden no importa
+        for (; rest != 0; rest &= rest - 1) {
+            PackedState.setCard(state, index++, Long.numberOfTrailingZeros(rest));
+        }
+    }
+
+    /**
+     * Carga un estado empaquetado con `snapshot`, de esta partida o de otra con la misma
+     * cantidad de asientos, sin reservar memoria. La partida continúa exactamente como
+     * habría continuado la original, con las mismas jugadas y los mismos barajados. Los
+     * oyentes reciben un `NewDeal`, porque las manos y la mesa cambian por completo; el
+     * registro, si hay, no sigue al estado cargado.
+     *
+     * @param state El estado empaquetado.
+     * @throws IllegalArgumentException Si el estado es de otra cantidad de asientos o sus
+     *                                  cartas no son las 52 de la baraja.
+     */
+    public void restore(long[] state) {
+        if (state.length != PackedState.words(seats.length) || PackedState.seats(state) != seats.length) {
+            throw new IllegalArgumentException("El estado no es de una mesa de " + seats.length + " asientos");
+        }
+        long seen = 0L;
+        for (int i = 0; i < CardCatalog.SIZE; i++) {
+            seen |= CardCatalog.bit(PackedState.card(state, i));
+        }
+        if (seen != CardCatalog.ALL_CARDS) {
+            throw new IllegalArgumentException("El estado no contiene las 52 cartas");
+        }
+
+        int index = 0;
+        cardOnTable = CardCatalog.get(PackedState.card(state, index++));
+        for (int seat = 0; seat < seats.length; seat++) {
+            Player player = seats[seat];
+            player.clearHand();
+            for (int i = PackedState.handSize(state, seat); i > 0; i--) {
+                player.addCard(CardCatalog.get(PackedState.card(state, index++)));
+            }
+            int last = PackedState.lastCard(state, seat);
+            lastCards[seat] = last < 0 ? null : CardCatalog.get(last);
+        }
+        deck.clearDeck();
+        for (int i = PackedState.deckSize(state); i > 0; i--) {
+            deck.addCard(PackedState.card(state, index++));
+        }
+        discard.clear();
+        for (int i = PackedState.discardSize(state); i > 0; i--) {
+            discard.add(PackedState.card(state, index++));
+        }
+        playedMask = discard.getMask() | CardCatalog.bit(cardOnTable.getOrdinal());
+
+        tableSum = PackedState.tableSum(state);
+        turnCount = PackedState.turnCount(state);
+        turns.restore(PackedState.aliveMask(state), PackedState.current(state));
+        int winnerSeat = PackedState.winner(state);
+        winner = winnerSeat < 0 ? null : seats[winnerSeat];
+        int lastComputer = PackedState.lastComputerCard(state);
+        lastComputerCard = lastComputer < 0 ? null : CardCatalog.get(lastComputer);
+        dealRandom.reseed(state[PackedState.RANDOM]);
+        seed = state[PackedState.SEED];
+        if (!listeners.isEmpty()) {
+            fire(new GameEvent.NewDeal(seed, seats.length));
+        }
+    }
+
+    /**
+     * Calcula el hash de 64 bits de la posición actual (ver `PackedState.hash`), sin
+     * reservar memoria más allá del estado empaquetado.
+     *
+     * @param scratch Un arreglo de `PackedState.words(getSeatCount())` palabras que se
+     *                sobrescribe con el estado.
+     * @return El hash de la posición.
+     */
+    public long stateHash(long[] scratch) {
+        snapshot(scratch);
+        return PackedState.hash(scratch);
+    }
+
+    /**
+     * Activa el registro de la partida. El registro se reinicia en cada reparto y empieza
+     * con el reparto actual, que se vuelve a barajar con su semilla para guardar el orden
+     * del mazo.
+     *
+     * @param log El registro donde se guardan el reparto y las jugadas, o `null` para no registrar.
+     * @throws IllegalStateException Si ya hubo jugadas en el reparto actual: el registro
+     *                               no podría reproducirlas.
+     * @throws IllegalArgumentException Si las reglas no son una variante con nombre
+     *                                  (`RuleSet.named`): el registro no se podría leer.
+     */
+    public void setLog(GameLog log) {
+        if (log != null) {
+            if (turnCount > 0) {
+                throw new IllegalStateException("El registro debe activarse antes de la primera jugada del reparto");
+            }
+            if (RuleSet.named(rules.getName()).fingerprint() != rules.fingerprint()) {
+                throw new IllegalArgumentException("Solo se registran partidas con variantes con nombre: " + rules);
+            }
+            Deck dealt = new Deck(new GameRandom(seed));
+            dealt.shuffle();
+            log.begin(seed, seats.length, rules, dealt);
+        }
+        this.log = log;
+    }
+
+    /**
+     * Obtiene la semilla con la que se barajó el mazo en el reparto actual.
+     *
+     * @return La semilla del reparto.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Cambia la estrategia con la que las computadoras eligen sus cartas.
+     *
+     * @param computerStrategy La nueva estrategia.
+     */
+    public void setComputerStrategy(ComputerStrategy computerStrategy) {
+        this.computerStrategy = computerStrategy;
+    }
+
+    /**
+     * Obtiene la estrategia con la que las computadoras eligen sus cartas.
+     *
+     * @return La estrategia actual.
+     */
+    public ComputerStrategy getComputerStrategy() {
+        return computerStrategy;
     }
 
     // Métodos getter para obtener el estado del juego
@@ -165,16 +614,124 @@ public class CincuentazoGame {
      * @return El jugador humano.
      */
     public Player getPlayer() {
-        return player;
+        return seats[0];
     }
 
     /**
-     * Obtiene el jugador de la computadora.
+     * Obtiene la primera computadora (asiento 1).
      *
      * @return El jugador de la computadora.
      */
     public Player getComputer() {
-        return computer;
+        return seats[1];
+    }
+
+    /**
+     * Obtiene el jugador de un asiento.
+     *
+     * @param seat El asiento, donde 0 es el jugador humano.
+     * @return El jugador de ese asiento.
+     */
+    public Player getSeat(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * Obtiene la cantidad de asientos de la mesa, incluidos los eliminados.
+     *
+     * @return La cantidad de asientos.
+     */
+    public int getSeatCount() {
+        return seats.length;
+    }
+
+    /**
+     * Obtiene la cantidad de asientos que siguen en juego.
+     *
+     * @return La cantidad de asientos no eliminados.
+     */
+    public int getAliveCount() {
+        return turns.size();
+    }
+
+    /**
+     * Obtiene el asiento en juego que juega después de otro.
+     *
+     * @param seat Un asiento en juego.
+     * @return El siguiente asiento en juego.
+     */
+    public int getNextSeat(int seat) {
+        return turns.nextOf(seat);
+    }
+
+    /**
+     * Obtiene el asiento al que le toca jugar.
+     *
+     * @return El asiento actual.
+     */
+    public int getCurrentSeat() {
+        return turns.current();
+    }
+
+    /**
+     * Obtiene el jugador al que le toca jugar.
+     *
+     * @return El jugador del asiento actual.
+     */
+    public Player getCurrentPlayer() {
+        return seats[turns.current()];
+    }
+
+    /**
+     * Obtiene el asiento de un jugador de esta partida.
+     *
+     * @param player El jugador.
+     * @return Su asiento, o -1 si no juega en esta partida.
+     */
+    public int seatOf(Player player) {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Indica si un asiento fue eliminado.
+     *
+     * @param seat El asiento.
+     * @return `true` si el asiento ya no está en juego.
+     */
+    public boolean isEliminated(int seat) {
+        return !turns.isAlive(seat);
+    }
+
+    /**
+     * Obtiene las reglas de la partida.
+     *
+     * @return Las reglas.
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    /**
+     * Obtiene el mazo de la partida.
+     *
+     * @return El mazo de cartas.
+     */
+    public Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Obtiene la pila de descarte de la partida.
+     *
+     * @return Las cartas que quedaron debajo de la de la mesa.
+     */
+    public DiscardPile getDiscardPile() {
+        return discard;
     }
 
     /**
@@ -186,19 +743,76 @@ public class CincuentazoGame {
         return tableSum;
     }
 
+    /**
+     * Obtiene la carta que está actualmente sobre la mesa.
+     *
+     * @return La carta en la mesa.
+     */
+    public Card getCardOnTable() {
+        return cardOnTable;
+    }
+
+    /**
+     * Obtiene las cartas jugadas que siguen a la vista: la de la mesa y las del descarte.
+     * Es información visible para todos los jugadores. Al reciclar el descarte, sus cartas
+     * vuelven al mazo y dejan de estar en la máscara.
+     *
+     * @return La máscara de las cartas jugadas.
+     */
+    public long getPlayedMask() {
+        return playedMask;
+    }
+
+    /**
+     * Indica si el próximo movimiento corresponde al jugador humano.
+     *
+     * @return `true` si es el turno del jugador, `false` si es el de una computadora o la partida terminó.
+     */
+    public boolean isPlayerTurn() {
+        return winner == null && turns.current() == 0;
+    }
+
+    /**
+     * Obtiene el ganador de la partida.
+     *
+     * @return El jugador que ganó, o `null` si la partida sigue en curso.
+     */
+    public Player getWinner() {
+        return winner;
+    }
+
+    /**
+     * Obtiene la cantidad de jugadas aplicadas desde el reparto.
+     *
+     * @return El número de jugadas de la partida.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Obtiene la última carta jugada desde un asiento.
+     *
+     * @param seat El asiento.
+     * @return La última carta que jugó ese asiento, o `null` si todavía no jugó.
+     */
+    public Card getLastCard(int seat) {
+        return lastCards[seat];
+    }
+
     /**
      * Obtiene la última carta jugada por el jugador.
      *
      * @return La última carta jugada por el jugador.
      */
     public Card getLastPlayerCard() {
-        return lastPlayerCard;
+        return lastCards[0];
     }
 
     /**
-     * Obtiene la última carta jugada por la computadora.
+     * Obtiene la última carta jugada por alguna computadora.
      *
-     * @return La última carta jugada por la computadora.
+     * @return La última carta jugada por una computadora.
      */
     public Card getLastComputerCard() {
         return lastComputerCard;
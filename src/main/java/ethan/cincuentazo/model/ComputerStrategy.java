@@ -0,0 +1,26 @@
+package ethan.cincuentazo.model;
+
+/**
+ * Estrategia con la que la computadora elige la carta que va a jugar.
+ * El patrón de diseño Strategy permite cambiar la inteligencia de la computadora
+ * sin modificar `CincuentazoGame`.
+ */
+@FunctionalInterface
+public interface ComputerStrategy {
+
+    /**
+     * Estrategia por defecto: juega la primera carta de la mano que no hace superar el límite.
+     */
+    ComputerStrategy FIRST_PLAYABLE = (game, self) -> self.firstPlayableIndex(game.getTableSum(), game.getRules());
+
+    /**
+     * Elige la carta que va a jugar la computadora. La estrategia solo debe leer el
+     * estado del juego, nunca modificarlo.
+     *
+     * @param game El juego en curso.
+     * @param self El jugador que controla la estrategia.
+     * @return El índice en la mano de la carta elegida. Si no es una jugada válida,
+     *         el juego juega la primera carta jugable.
+     */
+    int chooseCard(CincuentazoGame game, Player self);
+}
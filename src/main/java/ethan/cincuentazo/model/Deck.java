@@ -3,36 +3,70 @@ package ethan.cincuentazo.model;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Representa el mazo de cartas del juego.
  * Se encarga de la creación, barajado, y distribución de cartas.
+ *
+ * Internamente el mazo es un arreglo de ordinales del `CardCatalog` con un
+ * cursor que marca el tope: robar, consultar el tamaño o reiniciar el mazo
+ * no reservan memoria, y las cartas devueltas son las instancias compartidas.
  */
 public class Deck {
-    private ArrayList<Card> cartas;
+    private final byte[] cartas = new byte[CardCatalog.SIZE];  // Ordinales de las cartas; el tope es cartas[top - 1]
+    private int top;  // Cantidad de cartas disponibles en el mazo
+    private RandomGenerator random;  // Generador usado para barajar
 
     // Constructor que crea un mazo estándar de 52 cartas (sin comodines).
     public Deck() {
-        cartas = new ArrayList<>();
-        // Patron Creacional
-        for (String suit : new String[]{"Corazones", "Diamantes", "Treboles", "Picas"}) {
-            for (String rank : new String[]{"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"}) {
-                cartas.add(createCard(rank, suit)); // Crear la carta usando el Factory Method
-            }
-        }
+        this(new SplittableRandom());
     }
 
-    // Método Factory para crear una carta
-    private Card createCard(String rank, String suit) {
-        return new Card(rank, suit);
+    /**
+     * Constructor que crea un mazo estándar de 52 cartas que baraja con el
+     * generador indicado. Con un generador con semilla fija el orden del mazo
+     * es reproducible.
+     *
+     * @param random El generador de números aleatorios para barajar.
+     */
+    public Deck(RandomGenerator random) {
+        this.random = random;
+        reset();
+    }
+
+    /**
+     * Restaura las 52 cartas en el mazo, en orden de catálogo, sin reservar memoria.
+     */
+    public void reset() {
+        for (int ordinal = 0; ordinal < CardCatalog.SIZE; ordinal++) {
+            cartas[ordinal] = (byte) ordinal;
+        }
+        top = CardCatalog.SIZE;
     }
 
     /**
      * Baraja el mazo de cartas de manera aleatoria.
-     * Utiliza la función de barajado de la clase `Collections` para mezclar las cartas.
+     * Aplica el algoritmo de Fisher–Yates sobre las cartas disponibles usando
+     * el generador configurado.
      */
     public void shuffle() {
-        Collections.shuffle(cartas);
+        for (int i = top - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = cartas[i];
+            cartas[i] = cartas[j];
+            cartas[j] = tmp;
+        }
+    }
+
+    /**
+     * Cambia el generador usado para barajar.
+     *
+     * @param random El nuevo generador de números aleatorios.
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
     }
 
     /**
@@ -44,10 +78,29 @@ public class Deck {
      * @throws IllegalStateException Si el mazo está vacío.
      */
     public Card drawCard() {
-        if (cartas.isEmpty()) {
+        return CardCatalog.get(drawOrdinal());
+    }
+
+    /**
+     * Saca una carta del mazo y devuelve solo su ordinal.
+     *
+     * @return El ordinal de la carta que se ha sacado del mazo.
+     * @throws IllegalStateException Si el mazo está vacío.
+     */
+    public int drawOrdinal() {
+        if (top == 0) {
             throw new IllegalStateException("El mazo está vacío. No se pueden sacar más cartas.");
         }
-        return cartas.remove(cartas.size() - 1); // Saca la última carta del mazo
+        return cartas[--top]; // Saca la última carta del mazo
+    }
+
+    /**
+     * Copia el orden actual del mazo, desde el fondo hasta el tope.
+     *
+     * @param into El arreglo destino, con espacio para `size()` cartas.
+     */
+    public void copyOrder(byte[] into) {
+        System.arraycopy(cartas, 0, into, 0, top);
     }
 
     /**
@@ -56,7 +109,20 @@ public class Deck {
      * @return `true` si el mazo tiene cartas, `false` si está vacío.
      */
     public boolean hasCards() {
-        return !cartas.isEmpty();
+        return top > 0;
+    }
+
+    /**
+     * Agrega una carta al tope del mazo.
+     *
+     * @param ordinal El ordinal de la carta que se va a agregar.
+     * @throws IllegalStateException Si el mazo ya contiene 52 cartas.
+     */
+    public void addCard(int ordinal) {
+        if (top == cartas.length) {
+            throw new IllegalStateException("El mazo está lleno. No se pueden agregar más cartas.");
+        }
+        cartas[top++] = (byte) ordinal;
     }
 
     /**
@@ -65,7 +131,9 @@ public class Deck {
      * @param cards Las cartas que se van a agregar al mazo.
      */
     public void addCards(List<Card> cards) {
-        cartas.addAll(cards);
+        for (Card card : cards) {
+            addCard(card.getOrdinal());
+        }
     }
 
     /**
@@ -73,7 +141,7 @@ public class Deck {
      * Este método elimina todas las cartas contenidas en el mazo.
      */
     public void clearDeck() {
-        cartas.clear();  // Elimina todas las cartas del mazo
+        top = 0;  // Elimina todas las cartas del mazo
     }
 
     /**
@@ -82,7 +150,7 @@ public class Deck {
      * @return El número de cartas en el mazo.
      */
     public int size() {
-        return cartas.size();
+        return top;
     }
 
     /**
@@ -90,17 +158,22 @@ public class Deck {
      * Utiliza el método `toString` de la clase `Card` para mostrar la carta de manera legible.
      */
     public void showDeck() {
-        for (Card card : cartas) {
-            System.out.println(card.toString());
+        for (int i = 0; i < top; i++) {
+            System.out.println(CardCatalog.get(cartas[i]).toString());
         }
     }
 
     /**
      * Devuelve el mazo completo de cartas. Puede ser útil para obtener una referencia directa a todas las cartas.
+     * La lista es una copia; no se recomienda en rutas críticas.
      *
      * @return La lista completa de cartas del mazo.
      */
     public List<Card> getDeck() {
-        return Collections.unmodifiableList(cartas); // Devuelve una lista no modificable
+        List<Card> cards = new ArrayList<>(top);
+        for (int i = 0; i < top; i++) {
+            cards.add(CardCatalog.get(cartas[i]));
+        }
+        return Collections.unmodifiableList(cards); // Devuelve una lista no modificable
     }
 }
@@ -0,0 +1,91 @@
+package ethan.cincuentazo.model;
+
+/**
+ * Pila de descarte: las cartas que quedaron debajo de la carta de la mesa.
+ *
+ * Cuando el mazo se agota, `refill` pasa todo el descarte al mazo y lo baraja, así que
+ * la partida puede seguir indefinidamente. La pila es un arreglo de ordinales reservado
+ * una sola vez, como el del `Deck`, más una máscara con las mismas cartas: descartar,
+ * consultar y reciclar no reservan memoria.
+ */
+public class DiscardPile {
+    private final byte[] cartas = new byte[CardCatalog.SIZE];  // Ordinales en el orden en que se descartaron
+    private int size;  // Cantidad de cartas en la pila
+    private long mask;  // Las cartas de la pila como máscara de bits
+
+    /**
+     * Agrega una carta a la pila.
+     *
+     * @param ordinal El ordinal de la carta.
+     * @throws IllegalStateException Si la pila ya contiene 52 cartas.
+     */
+    public void add(int ordinal) {
+        if (size == cartas.length) {
+            throw new IllegalStateException("La pila de descarte está llena.");
+        }
+        cartas[size++] = (byte) ordinal;
+        mask |= CardCatalog.bit(ordinal);
+    }
+
+    /**
+     * Pasa todas las cartas de la pila al mazo y lo baraja. La pila queda vacía.
+     *
+     * @param deck El mazo que recibe las cartas.
+     * @return La cantidad de cartas que se pasaron al mazo.
+     */
+    public int refill(Deck deck) {
+        int moved = size;
+        for (int i = 0; i < size; i++) {
+            deck.addCard(cartas[i]);
+        }
+        clear();
+        if (moved > 0) {
+            deck.shuffle();
+        }
+        return moved;
+    }
+
+    /**
+     * Copia el orden de la pila, de la primera carta descartada a la última.
+     *
+     * @param into El arreglo destino, con espacio para `size()` cartas.
+     */
+    public void copyOrder(byte[] into) {
+        System.arraycopy(cartas, 0, into, 0, size);
+    }
+
+    /**
+     * Vacía la pila.
+     */
+    public void clear() {
+        size = 0;
+        mask = 0L;
+    }
+
+    /**
+     * Obtiene la cantidad de cartas de la pila.
+     *
+     * @return El número de cartas descartadas.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indica si la pila tiene cartas.
+     *
+     * @return `true` si hay cartas para reciclar.
+     */
+    public boolean hasCards() {
+        return size > 0;
+    }
+
+    /**
+     * Obtiene las cartas de la pila como máscara de bits.
+     *
+     * @return La máscara de las cartas descartadas.
+     */
+    public long getMask() {
+        return mask;
+    }
+}
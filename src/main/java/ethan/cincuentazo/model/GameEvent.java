@@ -0,0 +1,74 @@
+package ethan.cincuentazo.model;
+
+/**
+ * Evento de una partida de Cincuentazo. `CincuentazoGame` los emite, en orden, a los
+ * `GameListener` registrados; sin oyentes no se crea ningún evento.
+ *
+ * Los asientos se numeran como en `CincuentazoGame`: el 0 es el jugador humano.
+ */
+public sealed interface GameEvent {
+
+    /**
+     * Se repartió una partida nueva: las manos, la carta inicial y la suma cambiaron
+     * por completo.
+     *
+     * @param seed La semilla del reparto.
+     * @param seats La cantidad de asientos.
+     */
+    record NewDeal(long seed, int seats) implements GameEvent {
+    }
+
+    /**
+     * Un asiento jugó una carta, que quedó sobre la mesa.
+     *
+     * @param seat El asiento que jugó.
+     * @param index El índice que tenía la carta en su mano; las siguientes se corren una posición.
+     * @param card La carta jugada.
+     */
+    record CardPlayed(int seat, int index, Card card) implements GameEvent {
+    }
+
+    /**
+     * Un asiento robó una carta del mazo, que se agregó al final de su mano.
+     *
+     * @param seat El asiento que robó.
+     * @param card La carta robada.
+     * @param deckSize Las cartas que quedan en el mazo.
+     */
+    record CardDrawn(int seat, Card card, int deckSize) implements GameEvent {
+    }
+
+    /**
+     * Cambió la suma de la mesa.
+     *
+     * @param oldSum La suma anterior.
+     * @param newSum La suma nueva.
+     */
+    record SumChanged(int oldSum, int newSum) implements GameEvent {
+    }
+
+    /**
+     * El mazo se agotó y el descarte se barajó como mazo nuevo.
+     *
+     * @param deckSize Las cartas del mazo nuevo.
+     */
+    record DeckRecycled(int deckSize) implements GameEvent {
+    }
+
+    /**
+     * Un asiento quedó eliminado; su mano se vació y sus cartas volvieron al mazo.
+     *
+     * @param seat El asiento eliminado.
+     * @param deckSize Las cartas del mazo después de devolver las suyas.
+     */
+    record PlayerEliminated(int seat, int deckSize) implements GameEvent {
+    }
+
+    /**
+     * Terminó la partida.
+     *
+     * @param winnerSeat El asiento ganador.
+     */
+    record GameOver(int winnerSeat) implements GameEvent {
+    }
+}
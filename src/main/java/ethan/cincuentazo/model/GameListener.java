@@ -0,0 +1,16 @@
+package ethan.cincuentazo.model;
+
+/**
+ * Oyente de los eventos de una partida. Se llama en el hilo que aplica la jugada,
+ * inmediatamente después de cada cambio, así que no debe bloquearse.
+ */
+@FunctionalInterface
+public interface GameListener {
+
+    /**
+     * Recibe un evento de la partida.
+     *
+     * @param event El evento.
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,179 @@
+package ethan.cincuentazo.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Registro binario compacto de una partida: la semilla del reparto, la cantidad de
+ * asientos, la variante de las reglas, el orden del mazo después de barajar y un byte
+ * por jugada (el ordinal de la carta jugada).
+ *
+ * Formato de cada registro: semilla (8 bytes), asientos (1 byte), nombre de la variante
+ * (`writeUTF`), huella de la variante (8 bytes), orden del mazo (52 bytes), cantidad de
+ * jugadas (4 bytes) y las jugadas (1 byte cada una). Al leer, la variante se busca con
+ * `RuleSet.named` y su huella tiene que coincidir con la guardada, para no reproducir un
+ * registro con reglas que cambiaron. Los registros se pueden escribir uno tras otro en el
+ * mismo flujo. El mismo objeto se reutiliza entre partidas sin
+ * reservar memoria mientras quepan las jugadas.
+ */
+public class GameLog {
+    private long seed;  // Semilla con la que se barajó el mazo
+    private int seats = 2;  // Cantidad de asientos de la partida
+    private RuleSet rules = RuleSet.STANDARD;  // Reglas de la partida
+    private final byte[] order = new byte[CardCatalog.SIZE];  // Orden del mazo tras barajar
+    private byte[] moves = new byte[64];  // Ordinales de las cartas jugadas
+    private int moveCount;  // Cantidad de jugadas registradas
+
+    /**
+     * Comienza el registro de una nueva partida y descarta las jugadas anteriores.
+     *
+     * @param seed La semilla del reparto.
+     * @param seats La cantidad de asientos de la partida.
+     * @param rules Las reglas de la partida.
+     * @param deck El mazo recién barajado, antes de repartir.
+     */
+    void begin(long seed, int seats, RuleSet rules, Deck deck) {
+        this.seed = seed;
+        this.seats = seats;
+        this.rules = rules;
+        deck.copyOrder(order);
+        moveCount = 0;
+    }
+
+    /**
+     * Registra una jugada.
+     *
+     * @param ordinal El ordinal de la carta jugada.
+     */
+    void append(int ordinal) {
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[moveCount++] = (byte) ordinal;
+    }
+
+    /**
+     * Obtiene la semilla del reparto.
+     *
+     * @return La semilla.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Obtiene la cantidad de asientos de la partida.
+     *
+     * @return La cantidad de asientos.
+     */
+    public int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Obtiene las reglas de la partida.
+     *
+     * @return La variante de las reglas.
+     */
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    /**
+     * Obtiene el ordinal de la carta en una posición del mazo barajado.
+     *
+     * @param position La posición en el mazo (0 es el fondo; se roba desde 51).
+     * @return El ordinal de la carta.
+     */
+    public int getOrderAt(int position) {
+        return order[position];
+    }
+
+    /**
+     * Obtiene la cantidad de jugadas registradas.
+     *
+     * @return La cantidad de jugadas.
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Obtiene una jugada registrada.
+     *
+     * @param index El número de jugada, desde 0.
+     * @return El ordinal de la carta jugada.
+     */
+    public int getMove(int index) {
+        if (index < 0 || index >= moveCount) {
+            throw new IndexOutOfBoundsException("Jugada fuera de rango: " + index);
+        }
+        return moves[index];
+    }
+
+    /**
+     * Escribe el registro en formato binario.
+     *
+     * @param out El destino.
+     * @throws IOException Si la escritura falla.
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeByte(seats);
+        out.writeUTF(rules.getName());
+        out.writeLong(rules.fingerprint());
+        out.write(order);
+        out.writeInt(moveCount);
+        out.write(moves, 0, moveCount);
+    }
+
+    /**
+     * Lee un registro escrito con `write`, reemplazando el contenido actual.
+     *
+     * @param in El origen.
+     * @return `true` si se leyó un registro, `false` si el flujo ya había terminado.
+     * @throws IOException Si la lectura falla, el registro está incompleto o su variante
+     *                     no existe o cambió.
+     */
+    public boolean read(DataInput in) throws IOException {
+        try {
+            seed = in.readLong();
+        } catch (EOFException e) {
+            return false;
+        }
+        int seatCount = in.readUnsignedByte();
+        if (seatCount < 2 || seatCount > CincuentazoGame.MAX_SEATS) {
+            throw new IOException("Cantidad de asientos inválida: " + seatCount);
+        }
+        String name = in.readUTF();
+        long fingerprint = in.readLong();
+        RuleSet variant;
+        try {
+            variant = RuleSet.named(name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (variant.fingerprint() != fingerprint) {
+            throw new IOException("Las reglas de la variante " + name + " no coinciden con las del registro");
+        }
+        if (seatCount * variant.getHandSize() + 1 > CardCatalog.SIZE) {
+            throw new IOException("No alcanzan las cartas para " + seatCount + " manos de " + variant.getHandSize());
+        }
+        seats = seatCount;
+        rules = variant;
+        in.readFully(order);
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Cantidad de jugadas inválida: " + count);
+        }
+        if (count > moves.length) {
+            moves = new byte[Integer.highestOneBit(count) * 2];
+        }
+        in.readFully(moves, 0, count);
+        moveCount = count;
+        return true;
+    }
+}
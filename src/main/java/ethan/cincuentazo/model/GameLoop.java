@@ -0,0 +1,313 @@
+package ethan.cincuentazo.model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bucle de un solo escritor que es dueño de una partida.
+ *
+ * Solo el hilo del bucle toca el `CincuentazoGame`: las jugadas se encolan como comandos
+ * y se aplican en orden. Después de cada comando que cambia la partida se publica una
+ * `GameSnapshot` en una referencia atómica, así que la interfaz, los espectadores y las
+ * métricas leen un estado coherente con `snapshot()` sin candados y sin copiar manos.
+ *
+ * Los oyentes registrados con `addListener` reciben cada fotografía, y los registrados con
+ * `addEventListener` cada `GameEvent` de la partida, en el hilo del bucle; si necesitan
+ * otro hilo (por ejemplo el de JavaFX) deben pasarlos ellos mismos. Los eventos de una
+ * jugada llegan antes que su fotografía.
+ *
+ * Las jugadas llevan la ficha de `moveToken()` del momento en que se pidieron; después de
+ * `cancelMoves` el bucle descarta las que todavía estaban en la cola sin tocar la partida.
+ *
+ * Todo futuro devuelto se completa: con la fotografía, con el error del comando o, si el
+ * bucle se cierra o se detiene por un `Error` antes de ejecutarlo, con una
+ * `IllegalStateException`.
+ */
+public class GameLoop implements AutoCloseable {
+
+    // Un comando encolado junto con el futuro que lo espera
+    private record Command(Function<CincuentazoGame, Boolean> action, CompletableFuture<GameSnapshot> result) {
+    }
+
+    private final LinkedBlockingQueue<Command> commands = new LinkedBlockingQueue<>();  // Comandos pendientes, en orden
+    private final AtomicReference<GameSnapshot> published = new AtomicReference<>();  // Última fotografía publicada
+    private final AtomicLong moveToken = new AtomicLong();  // Ficha vigente de las jugadas; `cancelMoves` la cambia
+    private final List<Consumer<GameSnapshot>> listeners = new CopyOnWriteArrayList<>();  // Oyentes de las publicaciones
+    private final List<GameListener> eventListeners = new CopyOnWriteArrayList<>();  // Oyentes de los eventos
+    private final Thread writer;  // Hilo dueño de la partida
+    private final SplittableRandom random;  // Origen de las semillas de las partidas
+    private CincuentazoGame game;  // La partida; solo la toca `writer`
+    private ComputerStrategy computerStrategy = ComputerStrategy.FIRST_PLAYABLE;  // Solo la toca `writer`
+    private long version;  // Número de la próxima publicación; solo lo toca `writer`
+    private volatile boolean running = true;  // Se apaga al cerrar el bucle
+
+    /**
+     * Crea el bucle con una partida de dos asientos y arranca su hilo.
+     */
+    public GameLoop() {
+        this(2, new SplittableRandom());
+    }
+
+    /**
+     * Crea el bucle y arranca su hilo. La primera fotografía está disponible al volver.
+     *
+     * @param seats La cantidad de asientos, entre 2 y `CincuentazoGame.MAX_SEATS`.
+     * @param random El generador del que salen las semillas de cada partida.
+     */
+    public GameLoop(int seats, SplittableRandom random) {
+        this.random = random;
+        this.game = new CincuentazoGame(seats, random.split());
+        game.addListener(this::forward);
+        publish();
+        writer = Thread.ofPlatform().daemon().name("game-loop").start(this::run);
+    }
+
+    // Aplica los comandos en orden hasta que se cierre el bucle. Los fallos de cada comando
+    // completan su futuro; un `Error` además detiene el bucle, falla los comandos pendientes
+    // y sale del hilo para que lo informe su manejador de excepciones
+    private void run() {
+        while (running) {
+            Command command;
+            try {
+                command = commands.take();
+            } catch (InterruptedException e) {
+                break;
+            }
+            try {
+                if (command.action().apply(game)) {
+                    publish();
+                }
+                command.result().complete(published.get());
+            } catch (Error e) {
+                command.result().completeExceptionally(e);
+                running = false;
+                failPending(e);
+                throw e;
+            } catch (Throwable e) {
+                command.result().completeExceptionally(e);
+            }
+        }
+        failPending(null);
+    }
+
+    // Completa con error los comandos que quedaron en la cola
+    private void failPending(Throwable cause) {
+        for (Command command = commands.poll(); command != null; command = commands.poll()) {
+            command.result().completeExceptionally(new IllegalStateException("El bucle de la partida está cerrado", cause));
+        }
+    }
+
+    /**
+     * Obtiene la última fotografía publicada. Se puede llamar desde cualquier hilo.
+     *
+     * @return La fotografía actual de la partida.
+     */
+    public GameSnapshot snapshot() {
+        return published.get();
+    }
+
+    /**
+     * Registra un oyente que recibe cada fotografía publicada, en el hilo del bucle.
+     *
+     * @param listener El oyente.
+     */
+    public void addListener(Consumer<GameSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Quita un oyente registrado.
+     *
+     * @param listener El oyente.
+     */
+    public void removeListener(Consumer<GameSnapshot> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Registra un oyente que recibe los eventos de la partida, en el hilo del bucle. Sigue
+     * registrado aunque la partida se reemplace con `reset(int)`.
+     *
+     * @param listener El oyente.
+     */
+    public void addEventListener(GameListener listener) {
+        eventListeners.add(listener);
+    }
+
+    /**
+     * Quita un oyente de eventos registrado.
+     *
+     * @param listener El oyente.
+     */
+    public void removeEventListener(GameListener listener) {
+        eventListeners.remove(listener);
+    }
+
+    // Pasa un evento de la partida a los oyentes del bucle
+    private void forward(GameEvent event) {
+        for (GameListener listener : eventListeners) {
+            listener.onEvent(event);
+        }
+    }
+
+    /**
+     * Cambia la estrategia de las computadoras. Se aplica en orden con las jugadas.
+     *
+     * @param computerStrategy La nueva estrategia.
+     */
+    public void setComputerStrategy(ComputerStrategy computerStrategy) {
+        submit(game -> {
+            this.computerStrategy = computerStrategy;
+            game.setComputerStrategy(computerStrategy);
+            return false;
+        });
+    }
+
+    /**
+     * Obtiene la ficha vigente de las jugadas. Se puede llamar desde cualquier hilo.
+     *
+     * @return La ficha con la que se piden las jugadas que `cancelMoves` puede descartar.
+     */
+    public long moveToken() {
+        return moveToken.get();
+    }
+
+    /**
+     * Descarta las jugadas pedidas con la ficha actual que todavía no se aplicaron: el
+     * bucle las saltea sin tocar la partida. Los reinicios y los demás comandos no se
+     * descartan. Se puede llamar desde cualquier hilo.
+     */
+    public void cancelMoves() {
+        moveToken.incrementAndGet();
+    }
+
+    /**
+     * Encola la jugada del jugador humano con la ficha vigente.
+     *
+     * @param index El índice en la mano de la carta a jugar.
+     * @return La fotografía después del comando; si la jugada no era válida, es la misma
+     *         que antes (con la misma versión).
+     */
+    public CompletableFuture<GameSnapshot> playerMove(int index) {
+        return playerMove(index, moveToken());
+    }
+
+    /**
+     * Encola la jugada del jugador humano, que se descarta si la ficha ya no está vigente
+     * cuando le toca al comando.
+     *
+     * @param index El índice en la mano de la carta a jugar.
+     * @param token La ficha de `moveToken()` del momento en que se pidió la jugada.
+     * @return La fotografía después del comando; si la jugada no era válida o se
+     *         descartó, es la misma que antes (con la misma versión).
+     */
+    public CompletableFuture<GameSnapshot> playerMove(int index, long token) {
+        return submit(game -> token == moveToken.get() && game.applyPlayerMove(index) != null);
+    }
+
+    /**
+     * Encola la jugada de la computadora a la que le toca con la ficha vigente.
+     *
+     * @return La fotografía después del comando; si no era el turno de una computadora,
+     *         es la misma que antes.
+     */
+    public CompletableFuture<GameSnapshot> computerMove() {
+        return computerMove(moveToken());
+    }
+
+    /**
+     * Encola la jugada de la computadora a la que le toca, que se descarta si la ficha ya
+     * no está vigente cuando le toca al comando. La decisión se calcula con la estrategia
+     * configurada en el hilo del bucle, que es el único que lee la partida.
+     *
+     * @param token La ficha de `moveToken()` del momento en que se pidió la jugada.
+     * @return La fotografía después del comando; si no era el turno de una computadora o
+     *         la jugada se descartó, es la misma que antes.
+     */
+    public CompletableFuture<GameSnapshot> computerMove(long token) {
+        return submit(game -> token == moveToken.get() && game.applyComputerMove() != null);
+    }
+
+    /**
+     * Encola el reinicio de la partida con la misma cantidad de asientos.
+     *
+     * @return La fotografía del nuevo reparto.
+     */
+    public CompletableFuture<GameSnapshot> reset() {
+        return submit(game -> {
+            game.resetGame(random.nextLong());
+            return true;
+        });
+    }
+
+    /**
+     * Encola una partida nueva con la cantidad de asientos indicada. Si es la misma que la
+     * de la partida actual, se vuelve a repartir sobre la misma partida; si no, se crea
+     * otra, porque los asientos de una partida son fijos.
+     *
+     * @param seats La cantidad de asientos, entre 2 y `CincuentazoGame.MAX_SEATS`.
+     * @return La fotografía del nuevo reparto.
+     */
+    public CompletableFuture<GameSnapshot> reset(int seats) {
+        return submit(game -> {
+            if (game.getSeatCount() == seats) {
+                game.resetGame(random.nextLong());
+                return true;
+            }
+            this.game = new CincuentazoGame(seats, random.split());
+            this.game.setComputerStrategy(computerStrategy);
+            this.game.addListener(this::forward);
+            forward(new GameEvent.NewDeal(this.game.getSeed(), seats));
+            return true;
+        });
+    }
+
+    /**
+     * Encola un comando arbitrario sobre la partida, que se ejecuta en el hilo del bucle.
+     * La partida no se debe guardar ni usar fuera del comando.
+     *
+     * @param command El comando; devuelve si cambió la partida, para publicar una fotografía.
+     * @return La fotografía después del comando, o un futuro completado con el error si el
+     *         comando, la publicación o algún oyente fallaron.
+     */
+    public CompletableFuture<GameSnapshot> submit(Function<CincuentazoGame, Boolean> command) {
+        CompletableFuture<GameSnapshot> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new IllegalStateException("El bucle de la partida está cerrado"));
+            return result;
+        }
+        commands.add(new Command(command, result));
+        // Si el bucle se cerró mientras se encolaba, puede que nadie vacíe la cola: se vacía acá
+        if (!running) {
+            failPending(null);
+        }
+        return result;
+    }
+
+    // Publica la fotografía del estado actual y avisa a los oyentes
+    private void publish() {
+        GameSnapshot snapshot = GameSnapshot.of(version++, game, published.get());
+        published.set(snapshot);
+        for (Consumer<GameSnapshot> listener : listeners) {
+            listener.accept(snapshot);
+        }
+    }
+
+    /**
+     * Detiene el hilo del bucle. Los comandos pendientes no se ejecutan: sus futuros se
+     * completan con una `IllegalStateException`.
+     */
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+        failPending(null);
+    }
+}
@@ -0,0 +1,52 @@
+package ethan.cincuentazo.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generador SplitMix64 que se puede volver a sembrar sin crear objetos nuevos.
+ *
+ * Cada partida baraja con un generador sembrado con su propia semilla, de modo que
+ * basta guardar esa semilla para reproducir la partida; reiniciar la partida solo
+ * cambia la semilla de este objeto.
+ */
+public final class GameRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;  // Estado interno del generador
+
+    /**
+     * Crea un generador con la semilla indicada.
+     *
+     * @param seed La semilla inicial.
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Reinicia el generador con una nueva semilla.
+     *
+     * @param seed La nueva semilla.
+     */
+    public void reseed(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Obtiene el estado interno; `reseed` con este valor continúa la misma secuencia.
+     *
+     * @return El estado del generador.
+     */
+    public long getState() {
+        return state;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,94 @@
+package ethan.cincuentazo.model;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Reconstruye partidas a partir de su `GameLog`.
+ *
+ * El reparto se repite con la semilla y las reglas del registro y se comprueba contra el
+ * orden del mazo guardado; luego se aplican las jugadas en orden. Hay un juego por
+ * variante y cantidad de asientos y se reutiliza entre registros, así que reproducir no
+ * reserva memoria.
+ */
+public class GameReplayer {
+    private final Map<RuleSet, CincuentazoGame[]> games = new HashMap<>();  // Juegos donde se reproducen los registros, por variante y asientos
+    private final GameLog dealt = new GameLog();  // Registro del reparto repetido, para comprobarlo
+
+    /**
+     * Crea un reproductor.
+     */
+    public GameReplayer() {
+    }
+
+    /**
+     * Reproduce un registro completo.
+     *
+     * @param log El registro de la partida.
+     * @return El juego en el estado final de la partida. Se reutiliza en la siguiente reproducción.
+     * @throws IllegalStateException Si el registro no corresponde a una partida válida.
+     */
+    public CincuentazoGame replay(GameLog log) {
+        return replay(log, log.getMoveCount());
+    }
+
+    /**
+     * Reproduce las primeras jugadas de un registro.
+     *
+     * @param log El registro de la partida.
+     * @param moves La cantidad de jugadas a aplicar.
+     * @return El juego en el estado después de esas jugadas. Se reutiliza en la siguiente reproducción.
+     * @throws IllegalStateException Si el registro no corresponde a una partida válida.
+     */
+    public CincuentazoGame replay(GameLog log, int moves) {
+        CincuentazoGame[] bySeats = games.computeIfAbsent(log.getRules(), rules -> new CincuentazoGame[CincuentazoGame.MAX_SEATS + 1]);
+        CincuentazoGame game = bySeats[log.getSeats()];
+        if (game == null) {
+            game = new CincuentazoGame(log.getSeats(), new SplittableRandom(0L), log.getRules());
+            game.setLog(dealt);
+            bySeats[log.getSeats()] = game;
+        }
+        game.resetGame(log.getSeed());
+        for (int position = 0; position < CardCatalog.SIZE; position++) {
+            if (dealt.getOrderAt(position) != log.getOrderAt(position)) {
+                throw new IllegalStateException("El orden del mazo no coincide con la semilla " + log.getSeed());
+            }
+        }
+        for (int i = 0; i < moves; i++) {
+            int ordinal = log.getMove(i);
+            Card card = game.applyCard(ordinal);
+            if (card == null || card.getOrdinal() != ordinal) {
+                throw new IllegalStateException("Jugada " + i + " inválida: " + CardCatalog.get(ordinal));
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Reproduce todos los registros de un archivo e informa la velocidad de reproducción.
+     *
+     * @param args La ruta del archivo de registros.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public static void main(String[] args) throws IOException {
+        GameReplayer replayer = new GameReplayer();
+        GameLog log = new GameLog();
+        long games = 0;
+        long turns = 0;
+        long start = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Path.of(args[0]))))) {
+            while (log.read(in)) {
+                turns += replayer.replay(log).getTurnCount();
+                games++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Partidas: %d, jugadas: %d, jugadas por segundo: %.0f%n", games, turns, turns / seconds);
+    }
+}
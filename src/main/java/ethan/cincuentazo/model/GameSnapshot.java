@@ -0,0 +1,271 @@
+package ethan.cincuentazo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fotografía inmutable del estado de una partida después de una jugada.
+ *
+ * La publica `GameLoop` y se puede leer desde cualquier hilo sin candados: todos los
+ * campos son finales y las manos son listas inmutables. Al crear la fotografía de una
+ * jugada se reutilizan las manos de la anterior que tienen las mismas cartas en el mismo
+ * orden, así que por jugada solo se copia la mano de quien jugó (y las de los
+ * eliminados, que quedan vacías).
+ */
+public final class GameSnapshot {
+    private final long version;  // Número de publicación; crece con cada fotografía del mismo bucle
+    private final long seed;  // Semilla del reparto
+    private final int tableSum;  // Suma de la mesa
+    private final Card cardOnTable;  // Carta sobre la mesa
+    private final List<List<Card>> hands;  // Mano de cada asiento
+    private final long[] handMasks;  // Mano de cada asiento como máscara; no se expone el arreglo
+    private final String[] names;  // Nombre de cada asiento; no se expone el arreglo
+    private final int eliminatedMask;  // Bit encendido por cada asiento eliminado
+    private final int currentSeat;  // Asiento al que le toca, o -1 si la partida terminó
+    private final int winnerSeat;  // Asiento ganador, o -1 si la partida sigue
+    private final int deckSize;  // Cartas en el mazo
+    private final long playedMask;  // Carta de la mesa y descarte
+    private final int turnCount;  // Jugadas aplicadas desde el reparto
+    private final Card lastPlayerCard;  // Última carta del jugador
+    private final Card lastComputerCard;  // Última carta de alguna computadora
+
+    /**
+     * Toma la fotografía de una partida. Solo la debe llamar el hilo dueño de la partida.
+     *
+     * @param version El número de publicación.
+     * @param game La partida.
+     * @param previous La fotografía anterior de la misma partida, para reutilizar sus
+     *                 manos, o `null`.
+     * @return La fotografía.
+     */
+    static GameSnapshot of(long version, CincuentazoGame game, GameSnapshot previous) {
+        int seats = game.getSeatCount();
+        if (previous != null && previous.handMasks.length != seats) {
+            previous = null;
+        }
+        List<List<Card>> hands = new ArrayList<>(seats);
+        long[] masks = new long[seats];
+        String[] names = new String[seats];
+        int eliminated = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            Player player = game.getSeat(seat);
+            masks[seat] = player.getHandMask();
+            names[seat] = player.getNombre();
+            // Se compara el orden y no solo la máscara: un reparto nuevo o un `restore` pueden
+            // dar las mismas cartas en otro orden, y la interfaz juega por índice
+            hands.add(previous != null && previous.handMasks[seat] == masks[seat]
+                    && sameOrder(previous.hands.get(seat), player.getHand())
+                    ? previous.hands.get(seat)
+                    : List.copyOf(player.getHand()));
+            if (game.isEliminated(seat)) {
+                eliminated |= 1 << seat;
+            }
+        }
+        Player winner = game.getWinner();
+        return new GameSnapshot(version, game.getSeed(), game.getTableSum(), game.getCardOnTable(),
+                List.copyOf(hands), masks, names, eliminated,
+                winner == null ? game.getCurrentSeat() : -1,
+                winner == null ? -1 : game.seatOf(winner),
+                game.getDeck().size(), game.getPlayedMask(), game.getTurnCount(),
+                game.getLastPlayerCard(), game.getLastComputerCard());
+    }
+
+    // Indica si dos manos tienen las mismas cartas en el mismo orden; las cartas son instancias compartidas
+    private static boolean sameOrder(List<Card> shown, List<Card> hand) {
+        if (shown.size() != hand.size()) {
+            return false;
+        }
+        for (int i = 0; i < shown.size(); i++) {
+            if (shown.get(i) != hand.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private GameSnapshot(long version, long seed, int tableSum, Card cardOnTable, List<List<Card>> hands,
+                         long[] handMasks, String[] names, int eliminatedMask, int currentSeat, int winnerSeat,
+                         int deckSize, long playedMask, int turnCount, Card lastPlayerCard, Card lastComputerCard) {
+        this.version = version;
+        this.seed = seed;
+        this.tableSum = tableSum;
+        this.cardOnTable = cardOnTable;
+        this.hands = hands;
+        this.handMasks = handMasks;
+        this.names = names;
+        this.eliminatedMask = eliminatedMask;
+        this.currentSeat = currentSeat;
+        this.winnerSeat = winnerSeat;
+        this.deckSize = deckSize;
+        this.playedMask = playedMask;
+        this.turnCount = turnCount;
+        this.lastPlayerCard = lastPlayerCard;
+        this.lastComputerCard = lastComputerCard;
+    }
+
+    /**
+     * Obtiene el número de publicación de la fotografía.
+     *
+     * @return El número de publicación.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtiene la semilla del reparto.
+     *
+     * @return La semilla.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Obtiene la suma de la mesa.
+     *
+     * @return La suma de la mesa.
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Obtiene la carta que está sobre la mesa.
+     *
+     * @return La carta en la mesa.
+     */
+    public Card getCardOnTable() {
+        return cardOnTable;
+    }
+
+    /**
+     * Obtiene la cantidad de asientos.
+     *
+     * @return La cantidad de asientos, eliminados incluidos.
+     */
+    public int getSeatCount() {
+        return handMasks.length;
+    }
+
+    /**
+     * Obtiene la mano de un asiento.
+     *
+     * @param seat El asiento.
+     * @return La mano, como lista inmutable.
+     */
+    public List<Card> getHand(int seat) {
+        return hands.get(seat);
+    }
+
+    /**
+     * Obtiene la mano de un asiento como máscara de bits.
+     *
+     * @param seat El asiento.
+     * @return La máscara de la mano.
+     */
+    public long getHandMask(int seat) {
+        return handMasks[seat];
+    }
+
+    /**
+     * Obtiene el nombre del jugador de un asiento.
+     *
+     * @param seat El asiento.
+     * @return El nombre.
+     */
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    /**
+     * Indica si un asiento fue eliminado.
+     *
+     * @param seat El asiento.
+     * @return `true` si el asiento ya no está en juego.
+     */
+    public boolean isEliminated(int seat) {
+        return (eliminatedMask & (1 << seat)) != 0;
+    }
+
+    /**
+     * Obtiene el asiento al que le toca jugar.
+     *
+     * @return El asiento actual, o -1 si la partida terminó.
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Indica si le toca jugar al jugador humano.
+     *
+     * @return `true` si es el turno del asiento 0.
+     */
+    public boolean isPlayerTurn() {
+        return currentSeat == 0;
+    }
+
+    /**
+     * Indica si la partida terminó.
+     *
+     * @return `true` si hay un ganador.
+     */
+    public boolean isGameOver() {
+        return winnerSeat >= 0;
+    }
+
+    /**
+     * Obtiene el asiento ganador.
+     *
+     * @return El asiento ganador, o -1 si la partida sigue.
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * Obtiene la cantidad de cartas en el mazo.
+     *
+     * @return El tamaño del mazo.
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Obtiene las cartas jugadas que siguen a la vista: la de la mesa y las del descarte.
+     *
+     * @return La máscara de las cartas jugadas.
+     */
+    public long getPlayedMask() {
+        return playedMask;
+    }
+
+    /**
+     * Obtiene la cantidad de jugadas desde el reparto.
+     *
+     * @return El número de jugadas.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Obtiene la última carta jugada por el jugador.
+     *
+     * @return La carta, o `null` si todavía no jugó.
+     */
+    public Card getLastPlayerCard() {
+        return lastPlayerCard;
+    }
+
+    /**
+     * Obtiene la última carta jugada por alguna computadora.
+     *
+     * @return La carta, o `null` si todavía no jugó ninguna.
+     */
+    public Card getLastComputerCard() {
+        return lastComputerCard;
+    }
+}
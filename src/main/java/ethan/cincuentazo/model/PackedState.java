@@ -0,0 +1,174 @@
+package ethan.cincuentazo.model;
+
+/**
+ * Formato del estado empaquetado de una partida (ver `CincuentazoGame.snapshot`).
+ *
+ * El estado completo de una mesa cabe en un arreglo de `long` de ancho fijo para cada
+ * cantidad de asientos: copiarlo, guardarlo o enviarlo es copiar unos pocos enteros en
+ * lugar de recorrer el mazo, las manos y el orden de turnos. Las 52 cartas se guardan
+ * como una sola secuencia de ordinales de 6 bits, 10 por palabra: la carta de la mesa,
+ * las manos en orden de asiento, el mazo del fondo al tope, el descarte y, al final, las
+ * cartas que salieron de la partida. Los tamaños de cada tramo van en la cabecera.
+ *
+ * <pre>
+ * palabra 0: jugadas (32) | suma + 2^15 (16) | asiento actual (4) | ganador + 1 (4) | última carta de computadora + 1 (7)
+ * palabra 1: asientos en juego (10) | cartas del mazo (6) | cartas del descarte (6) | asientos (4)
+ * palabra 2: cartas de cada mano (6 por asiento)
+ * palabra 3: estado del generador con que se baraja
+ * palabra 4: semilla del reparto
+ * palabras 5-10: las 52 cartas
+ * palabras 11-: última carta de cada asiento + 1 (7 bits, 9 por palabra)
+ * </pre>
+ *
+ * El formato no depende de la ejecución, así que el hash también es estable entre
+ * procesos y versiones de Java.
+ */
+public final class PackedState {
+
+    static final int HEADER = 0;  // Jugadas, suma, turno, ganador y última carta de computadora
+    static final int COUNTS = 1;  // Asientos en juego, tamaños del mazo y del descarte, asientos
+    static final int HANDS = 2;  // Tamaño de cada mano
+    static final int RANDOM = 3;  // Estado del generador del mazo
+    static final int SEED = 4;  // Semilla del reparto
+    static final int CARDS = 5;  // Primera palabra de la secuencia de cartas
+
+    static final int CARD_BITS = 6;
+    static final int CARDS_PER_WORD = 10;
+    static final int LAST_BITS = 7;
+    static final int LAST_PER_WORD = 9;
+    static final int SUM_OFFSET = 1 << 15;  // Desplazamiento para guardar la suma sin signo
+
+    private static final int CARD_WORDS = (CardCatalog.SIZE + CARDS_PER_WORD - 1) / CARDS_PER_WORD;
+    private static final int LAST = CARDS + CARD_WORDS;  // Primera palabra de las últimas cartas
+
+    // Bits de la cabecera que describen la posición; el resto es historia (jugadas, última carta)
+    private static final long POSITION_HEADER = 0xFFFFFFL << 32;
+
+    private PackedState() {
+    }
+
+    /**
+     * Obtiene la cantidad de palabras del estado de una mesa.
+     *
+     * @param seats La cantidad de asientos.
+     * @return El largo del arreglo que usan `snapshot` y `restore`.
+     */
+    public static int words(int seats) {
+        return LAST + (seats + LAST_PER_WORD - 1) / LAST_PER_WORD;
+    }
+
+    /**
+     * Obtiene la cantidad de asientos de un estado.
+     *
+     * @param state El estado empaquetado.
+     * @return La cantidad de asientos de la mesa.
+     */
+    public static int seats(long[] state) {
+        return (int) (state[COUNTS] >>> 22) & 0xF;
+    }
+
+    /**
+     * Calcula un hash de 64 bits de la posición, apto para tablas de transposición. Solo
+     * entran las cartas, la suma, el turno, el ganador, los asientos en juego y el
+     * generador del mazo: dos estados que se juegan igual tienen el mismo hash aunque
+     * difieran en la cantidad de jugadas, la semilla o las últimas cartas jugadas.
+     *
+     * @param state El estado empaquetado.
+     * @return El hash de la posición.
+     */
+    public static long hash(long[] state) {
+        long hash = mix(state[HEADER] & POSITION_HEADER);
+        hash = mix(hash ^ state[COUNTS]);
+        hash = mix(hash ^ state[HANDS]);
+        hash = mix(hash ^ state[RANDOM]);
+        for (int word = CARDS; word < LAST; word++) {
+            hash = mix(hash ^ state[word]);
+        }
+        return hash;
+    }
+
+    // Arma la cabecera
+    static long header(int turnCount, int tableSum, int current, int winner, int lastComputerCard) {
+        return (turnCount & 0xFFFFFFFFL) | (long) (tableSum + SUM_OFFSET) << 32 | (long) current << 48
+                | (long) (winner + 1) << 52 | (long) (lastComputerCard + 1) << 56;
+    }
+
+    static int turnCount(long[] state) {
+        return (int) state[HEADER];
+    }
+
+    static int tableSum(long[] state) {
+        return ((int) (state[HEADER] >>> 32) & 0xFFFF) - SUM_OFFSET;
+    }
+
+    static int current(long[] state) {
+        return (int) (state[HEADER] >>> 48) & 0xF;
+    }
+
+    // Asiento ganador, o -1 si la partida sigue
+    static int winner(long[] state) {
+        return ((int) (state[HEADER] >>> 52) & 0xF) - 1;
+    }
+
+    // Ordinal de la última carta de una computadora, o -1 si ninguna jugó
+    static int lastComputerCard(long[] state) {
+        return ((int) (state[HEADER] >>> 56) & 0x7F) - 1;
+    }
+
+    // Arma la palabra de tamaños
+    static long counts(int aliveMask, int deckSize, int discardSize, int seats) {
+        return aliveMask | deckSize << 10 | discardSize << 16 | (long) seats << 22;
+    }
+
+    static int aliveMask(long[] state) {
+        return (int) state[COUNTS] & 0x3FF;
+    }
+
+    static int deckSize(long[] state) {
+        return (int) (state[COUNTS] >>> 10) & 0x3F;
+    }
+
+    static int discardSize(long[] state) {
+        return (int) (state[COUNTS] >>> 16) & 0x3F;
+    }
+
+    static int handSize(long[] state, int seat) {
+        return (int) (state[HANDS] >>> (seat * CARD_BITS)) & 0x3F;
+    }
+
+    // Escribe el tamaño de una mano; la palabra debe empezar en cero
+    static void setHandSize(long[] state, int seat, int size) {
+        state[HANDS] |= (long) size << (seat * CARD_BITS);
+    }
+
+    // Lee el ordinal de la posición `index` de la secuencia de cartas
+    static int card(long[] state, int index) {
+        int shift = (index % CARDS_PER_WORD) * CARD_BITS;
+        return (int) (state[CARDS + index / CARDS_PER_WORD] >>> shift) & 0x3F;
+    }
+
+    // Escribe el ordinal de la posición `index`; la palabra debe empezar en cero
+    static void setCard(long[] state, int index, int ordinal) {
+        int shift = (index % CARDS_PER_WORD) * CARD_BITS;
+        state[CARDS + index / CARDS_PER_WORD] |= (long) ordinal << shift;
+    }
+
+    // Lee la última carta de un asiento: el ordinal, o -1 si todavía no jugó
+    static int lastCard(long[] state, int seat) {
+        int shift = (seat % LAST_PER_WORD) * LAST_BITS;
+        return ((int) (state[LAST + seat / LAST_PER_WORD] >>> shift) & 0x7F) - 1;
+    }
+
+    // Escribe la última carta de un asiento (-1 si no jugó); la palabra debe empezar en cero
+    static void setLastCard(long[] state, int seat, int ordinal) {
+        int shift = (seat % LAST_PER_WORD) * LAST_BITS;
+        state[LAST + seat / LAST_PER_WORD] |= (long) (ordinal + 1) << shift;
+    }
+
+    // Paso de mezcla de SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,15 +1,22 @@
 package ethan.cincuentazo.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Representa a un jugador en el juego.
  * Cada jugador tiene un nombre, una mano de cartas y un puntaje.
+ *
+ * Además de la lista ordenada de cartas (usada por la interfaz), la mano se
+ * mantiene como una máscara de 64 bits con un bit por ordinal del `CardCatalog`,
+ * de modo que saber si el jugador puede jugar es una sola operación AND.
  */
 public class Player {
     private String nombre;  // Nombre del jugador
     private List<Card> hand;  // Mano del jugador, lista de cartas
+    private List<Card> handView;  // Vista de solo lectura de `hand`, creada una vez
+    private long handMask;  // Mano del jugador como máscara de bits por ordinal
     private int puntaje;  // Puntaje acumulado del jugador
 
     /**
@@ -21,6 +28,7 @@ public class Player {
     public Player(String nombre) {
         this.nombre = nombre;
         this.hand = new ArrayList<>();
+        this.handView = Collections.unmodifiableList(hand);
         this.puntaje = 0;
     }
 
@@ -31,6 +39,7 @@ public class Player {
      */
     public void addCard(Card card) {
         hand.add(card);
+        handMask |= CardCatalog.bit(card.getOrdinal());
     }
 
     /**
@@ -42,7 +51,9 @@ public class Player {
      */
     public Card playCard(int index) {
         if (index >= 0 && index < hand.size()) {
-            return hand.remove(index); // Remueve la carta jugada
+            Card card = hand.remove(index); // Remueve la carta jugada
+            handMask &= ~CardCatalog.bit(card.getOrdinal());
+            return card;
         }
         return null;  // Retorna null si el índice no es válido
     }
@@ -57,16 +68,66 @@ public class Player {
         if (hand.isEmpty()) {
             return null;  // Si la mano está vacía, no se puede jugar ninguna carta
         }
-        return hand.remove(0);  // Juega la primera carta de la mano
+        return playCard(0);  // Juega la primera carta de la mano
     }
 
     /**
-     * Obtiene la lista de cartas en la mano del jugador.
+     * Busca una carta en la mano por su ordinal.
      *
-     * @return La lista de cartas del jugador.
+     * @param ordinal El ordinal de la carta.
+     * @return El índice de la carta en la mano, o -1 si no la tiene.
+     */
+    public int indexOf(int ordinal) {
+        if ((handMask & CardCatalog.bit(ordinal)) == 0) {
+            return -1;
+        }
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i).getOrdinal() == ordinal) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca la primera carta de la mano que se puede jugar sin que la mesa supere 50.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @return El índice de la carta, o -1 si ninguna se puede jugar.
+     */
+    public int firstPlayableIndex(int tableSum) {
+        return firstPlayableIndex(tableSum, RuleSet.STANDARD);
+    }
+
+    /**
+     * Busca la primera carta de la mano que se puede jugar con una variante de las reglas.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @param rules Las reglas de la partida.
+     * @return El índice de la carta, o -1 si ninguna se puede jugar.
+     */
+    public int firstPlayableIndex(int tableSum, RuleSet rules) {
+        long playable = playableMask(tableSum, rules);
+        if (playable == 0) {
+            return -1;
+        }
+        for (int i = 0; i < hand.size(); i++) {
+            if ((playable & CardCatalog.bit(hand.get(i).getOrdinal())) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Obtiene la lista de cartas en la mano del jugador. La lista es de solo lectura
+     * para que no se desincronice de la máscara: la mano cambia con `addCard`,
+     * `playCard` y `clearHand`.
+     *
+     * @return Una vista de solo lectura de las cartas del jugador, que refleja los cambios.
      */
     public List<Card> getHand() {
-        return hand;
+        return handView;
     }
 
     /**
@@ -74,6 +135,60 @@ public class Player {
      */
     public void clearHand() {
         hand.clear();
+        handMask = 0L;
+    }
+
+    /**
+     * Obtiene la mano del jugador como máscara de bits (un bit por ordinal de carta).
+     *
+     * @return La máscara de la mano.
+     */
+    public long getHandMask() {
+        return handMask;
+    }
+
+    /**
+     * Obtiene las cartas de la mano que se pueden jugar sin que la mesa supere 50.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @return La máscara de las cartas jugables de la mano.
+     */
+    public long playableMask(int tableSum) {
+        return handMask & CardCatalog.legalMask(tableSum);
+    }
+
+    /**
+     * Obtiene las cartas de la mano que se pueden jugar con una variante de las reglas.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @param rules Las reglas de la partida.
+     * @return La máscara de las cartas jugables de la mano.
+     */
+    public long playableMask(int tableSum, RuleSet rules) {
+        return handMask & rules.legalMask(tableSum);
+    }
+
+    /**
+     * Verifica si el jugador tiene al menos una carta que pueda jugar sin que la
+     * mesa supere 50. Si no la tiene, queda eliminado.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @return `true` si el jugador puede jugar alguna carta.
+     */
+    public boolean canPlay(int tableSum) {
+        return (handMask & CardCatalog.legalMask(tableSum)) != 0;
+    }
+
+    /**
+     * Verifica si el jugador tiene al menos una carta que pueda jugar con una variante
+     * de las reglas.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @param rules Las reglas de la partida.
+     * @return `true` si el jugador puede jugar alguna carta.
+     */
+    public boolean canPlay(int tableSum, RuleSet rules) {
+        return (handMask & rules.legalMask(tableSum)) != 0;
     }
 
     /**
@@ -0,0 +1,372 @@
+package ethan.cincuentazo.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Variante de las reglas del juego, declarada una sola vez y compilada a tablas.
+ *
+ * Una variante indica el valor de cada rango, cómo se juega el As, el límite que no
+ * puede superar la mesa, el tamaño de la mano, qué pasa con las cartas de un eliminado y
+ * si el descarte vuelve al mazo cuando este se agota.
+ * Al crearla se calculan, por ordinal de carta, las tablas que usan el motor, la búsqueda
+ * y la simulación: cuánto suma cada carta sobre cada suma posible y qué cartas se pueden
+ * jugar sobre cada suma. Así, jugar con otra variante cuesta lo mismo que con la estándar:
+ * un acceso a un arreglo, sin comparar textos.
+ *
+ * Las variantes son inmutables. `STANDARD` son las reglas del juego; las demás se
+ * derivan con los métodos `with...` o se buscan por nombre con `named`.
+ */
+public final class RuleSet {
+
+    /**
+     * Cómo se juega el As.
+     */
+    public enum AcePolicy {
+        /** Vale el valor alto si con eso la mesa no supera el límite, y el bajo si no. */
+        HIGH_IF_SAFE,
+        /** Vale siempre el valor bajo. */
+        ALWAYS_LOW
+    }
+
+    /**
+     * Qué pasa con las cartas de un jugador eliminado.
+     */
+    public enum Elimination {
+        /** Vuelven al mazo, que se baraja. */
+        RETURN_TO_DECK,
+        /** Salen de la partida. */
+        REMOVE_FROM_GAME
+    }
+
+    // Valores de los rangos en el orden de CardCatalog: 2..10, J, Q, K, A (el As con su valor bajo).
+    // Es la única declaración de los valores: CardCatalog y Card los leen de STANDARD
+    private static final int[] STANDARD_VALUES = {2, 3, 4, 5, 6, 7, 8, 0, 10, -10, -10, -10, 1};
+    private static final int ACE_RANK = CardCatalog.RANKS_PER_SUIT - 1;  // El As es el último rango
+
+    /**
+     * Las reglas del juego: el As vale 10 o 1, la mesa no supera 50, la mano tiene 4 cartas
+     * y el descarte se baraja como mazo nuevo cuando el mazo se agota.
+     */
+    public static final RuleSet STANDARD = new RuleSet("estandar", STANDARD_VALUES, AcePolicy.HIGH_IF_SAFE, 10,
+            50, 4, Elimination.RETURN_TO_DECK, true);
+
+    // Variantes con nombre, para elegirlas desde la línea de comandos
+    private static final Map<String, RuleSet> VARIANTS = new LinkedHashMap<>();
+
+    static {
+        for (RuleSet rules : new RuleSet[] {
+                STANDARD,
+                STANDARD.withAcePolicy(AcePolicy.ALWAYS_LOW).withName("as-bajo"),
+                STANDARD.withBustThreshold(60).withName("limite-60"),
+                STANDARD.withHandSize(5).withName("mano-5"),
+                STANDARD.withElimination(Elimination.REMOVE_FROM_GAME).withName("sin-regreso"),
+                STANDARD.withRecycleDiscards(false).withName("sin-reciclar")}) {
+            VARIANTS.put(rules.name, rules);
+        }
+    }
+
+    private final String name;  // Nombre de la variante
+    private final int[] rankValues;  // Valor de cada rango; el As con su valor bajo
+    private final AcePolicy acePolicy;  // Cómo se juega el As
+    private final int aceHighValue;  // Valor alto del As
+    private final int bustThreshold;  // Suma que la mesa no puede superar
+    private final int handSize;  // Cartas en la mano
+    private final Elimination elimination;  // Destino de las cartas de un eliminado
+    private final boolean recycleDiscards;  // El descarte vuelve al mazo cuando se agota
+
+    // Tablas compiladas
+    private final int[] values = new int[CardCatalog.SIZE];  // Valor base por ordinal
+    private final int floor;  // Por debajo de esta suma todas las cartas se juegan igual
+    private final int ceiling;  // Por encima de esta suma no se puede jugar nada
+    private final int[] played;  // Valor jugado por (suma - floor) * 52 + ordinal
+    private final long[] legal;  // Cartas jugables por suma - floor
+    private final long fingerprint;  // Huella de las tablas compiladas
+
+    /**
+     * Declara y compila una variante de las reglas.
+     *
+     * @param name El nombre de la variante.
+     * @param rankValues El valor de cada rango en el orden 2..10, J, Q, K, A; el del As es
+     *                   su valor bajo.
+     * @param acePolicy Cómo se juega el As.
+     * @param aceHighValue El valor alto del As (solo cuenta con `HIGH_IF_SAFE`).
+     * @param bustThreshold La suma que la mesa no puede superar.
+     * @param handSize Las cartas de cada mano.
+     * @param elimination Qué pasa con las cartas de un eliminado.
+     * @param recycleDiscards `true` si el descarte se baraja como mazo nuevo cuando el
+     *                        mazo se agota.
+     * @throws IllegalArgumentException Si la variante no tiene sentido.
+     */
+    public RuleSet(String name, int[] rankValues, AcePolicy acePolicy, int aceHighValue, int bustThreshold,
+                   int handSize, Elimination elimination, boolean recycleDiscards) {
+        if (rankValues.length != CardCatalog.RANKS_PER_SUIT) {
+            throw new IllegalArgumentException("Se necesitan " + CardCatalog.RANKS_PER_SUIT + " valores: " + rankValues.length);
+        }
+        if (handSize < 1 || 2 * handSize + 1 > CardCatalog.SIZE) {
+            throw new IllegalArgumentException("Tamaño de mano inválido: " + handSize);
+        }
+        this.name = name;
+        this.rankValues = rankValues.clone();
+        this.acePolicy = acePolicy;
+        this.aceHighValue = aceHighValue;
+        this.bustThreshold = bustThreshold;
+        this.handSize = handSize;
+        this.elimination = elimination;
+        this.recycleDiscards = recycleDiscards;
+
+        int highest = 0;
+        int lowest = 0;
+        for (int ordinal = 0; ordinal < CardCatalog.SIZE; ordinal++) {
+            values[ordinal] = this.rankValues[ordinal % CardCatalog.RANKS_PER_SUIT];
+            highest = Math.max(highest, isAce(ordinal) ? Math.max(values[ordinal], aceHigh()) : values[ordinal]);
+            lowest = Math.min(lowest, values[ordinal]);
+        }
+        // Por debajo de floor cualquier carta cabe y por encima de ceiling ninguna: solo hace falta la tabla entre los dos
+        floor = bustThreshold - highest;
+        ceiling = bustThreshold - lowest;
+        int sums = ceiling - floor + 1;
+        played = new int[sums * CardCatalog.SIZE];
+        legal = new long[sums];
+        for (int sum = floor; sum <= ceiling; sum++) {
+            long mask = 0L;
+            for (int ordinal = 0; ordinal < CardCatalog.SIZE; ordinal++) {
+                int value = values[ordinal];
+                if (isAce(ordinal) && acePolicy == AcePolicy.HIGH_IF_SAFE && sum + aceHighValue <= bustThreshold) {
+                    value = aceHighValue;
+                }
+                played[(sum - floor) * CardCatalog.SIZE + ordinal] = value;
+                if (sum + value <= bustThreshold) {
+                    mask |= 1L << ordinal;  // Sin CardCatalog.bit: el catálogo se inicializa con STANDARD
+                }
+            }
+            legal[sum - floor] = mask;
+        }
+        fingerprint = computeFingerprint();
+    }
+
+    // Valor alto del As según la política; con ALWAYS_LOW no hay valor alto
+    private int aceHigh() {
+        return acePolicy == AcePolicy.HIGH_IF_SAFE ? aceHighValue : rankValues[ACE_RANK];
+    }
+
+    private static boolean isAce(int ordinal) {
+        return ordinal % CardCatalog.RANKS_PER_SUIT == ACE_RANK;
+    }
+
+    // Mezcla las tablas y los parámetros en 64 bits: dos variantes que juegan igual tienen la misma huella
+    private long computeFingerprint() {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int value : played) {
+            hash = mix(hash ^ value);
+        }
+        hash = mix(hash ^ floor);
+        hash = mix(hash ^ bustThreshold);
+        hash = mix(hash ^ handSize);
+        hash = mix(hash ^ elimination.ordinal());
+        return mix(hash ^ (recycleDiscards ? 1 : 0));
+    }
+
+    // Paso de mezcla de SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Busca una variante por su nombre: `estandar`, `as-bajo`, `limite-60`, `mano-5`,
+     * `sin-regreso` o `sin-reciclar`.
+     *
+     * @param name El nombre de la variante.
+     * @return La variante.
+     * @throws IllegalArgumentException Si no hay una variante con ese nombre.
+     */
+    public static RuleSet named(String name) {
+        RuleSet rules = VARIANTS.get(name);
+        if (rules == null) {
+            throw new IllegalArgumentException("Variante desconocida: " + name + "; hay " + VARIANTS.keySet());
+        }
+        return rules;
+    }
+
+    /**
+     * Obtiene el valor que aporta una carta al jugarse sobre la mesa.
+     *
+     * @param ordinal El ordinal de la carta (0-51).
+     * @param tableSum La suma actual de la mesa.
+     * @return El valor que suma la carta.
+     */
+    public int playedValue(int ordinal, int tableSum) {
+        int row = Math.min(Math.max(tableSum, floor), ceiling) - floor;
+        return played[row * CardCatalog.SIZE + ordinal];
+    }
+
+    /**
+     * Obtiene la máscara de las cartas que se pueden jugar sobre una suma sin superar el
+     * límite. Un jugador puede jugar si `(mano & legalMask(suma)) != 0`.
+     *
+     * @param tableSum La suma actual de la mesa.
+     * @return Una máscara con un bit encendido por cada carta jugable.
+     */
+    public long legalMask(int tableSum) {
+        if (tableSum < floor) {
+            return legal[0];
+        }
+        if (tableSum > ceiling) {
+            return 0L;
+        }
+        return legal[tableSum - floor];
+    }
+
+    /**
+     * Obtiene el valor base de una carta (el del As es su valor bajo).
+     *
+     * @param ordinal El ordinal de la carta (0-51).
+     * @return El valor de la carta.
+     */
+    public int valueOf(int ordinal) {
+        return values[ordinal];
+    }
+
+    /**
+     * Obtiene el nombre de la variante.
+     *
+     * @return El nombre.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Obtiene la suma que la mesa no puede superar.
+     *
+     * @return El límite de la mesa.
+     */
+    public int getBustThreshold() {
+        return bustThreshold;
+    }
+
+    /**
+     * Obtiene la cantidad de cartas de cada mano.
+     *
+     * @return El tamaño de la mano.
+     */
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * Obtiene qué pasa con las cartas de un eliminado.
+     *
+     * @return El destino de las cartas.
+     */
+    public Elimination getElimination() {
+        return elimination;
+    }
+
+    /**
+     * Indica si el descarte se baraja como mazo nuevo cuando el mazo se agota.
+     *
+     * @return `true` si el descarte se recicla.
+     */
+    public boolean recyclesDiscards() {
+        return recycleDiscards;
+    }
+
+    /**
+     * Obtiene cómo se juega el As.
+     *
+     * @return La política del As.
+     */
+    public AcePolicy getAcePolicy() {
+        return acePolicy;
+    }
+
+    /**
+     * Obtiene una huella de 64 bits de la variante: dos variantes con las mismas tablas
+     * y parámetros tienen la misma huella aunque se llamen distinto.
+     *
+     * @return La huella.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Crea la misma variante con otro nombre.
+     *
+     * @param name El nuevo nombre.
+     * @return La variante.
+     */
+    public RuleSet withName(String name) {
+        return new RuleSet(name, rankValues, acePolicy, aceHighValue, bustThreshold, handSize, elimination, recycleDiscards);
+    }
+
+    /**
+     * Crea una variante con otros valores de los rangos.
+     *
+     * @param rankValues El valor de cada rango en el orden 2..10, J, Q, K, A.
+     * @return La variante.
+     */
+    public RuleSet withRankValues(int[] rankValues) {
+        return new RuleSet(name, rankValues, acePolicy, aceHighValue, bustThreshold, handSize, elimination, recycleDiscards);
+    }
+
+    /**
+     * Crea una variante con otra política para el As.
+     *
+     * @param acePolicy La política del As.
+     * @return La variante.
+     */
+    public RuleSet withAcePolicy(AcePolicy acePolicy) {
+        return new RuleSet(name, rankValues, acePolicy, aceHighValue, bustThreshold, handSize, elimination, recycleDiscards);
+    }
+
+    /**
+     * Crea una variante con otro límite de la mesa.
+     *
+     * @param bustThreshold La suma que la mesa no puede superar.
+     * @return La variante.
+     */
+    public RuleSet withBustThreshold(int bustThreshold) {
+        return new RuleSet(name, rankValues, acePolicy, aceHighValue, bustThreshold, handSize, elimination, recycleDiscards);
+    }
+
+    /**
+     * Crea una variante con otro tamaño de mano.
+     *
+     * @param handSize Las cartas de cada mano.
+     * @return La variante.
+     */
+    public RuleSet withHandSize(int handSize) {
+        return new RuleSet(name, rankValues, acePolicy, aceHighValue, bustThreshold, handSize, elimination, recycleDiscards);
+    }
+
+    /**
+     * Crea una variante con otro destino para las cartas de un eliminado.
+     *
+     * @param elimination El destino de las cartas.
+     * @return La variante.
+     */
+    public RuleSet withElimination(Elimination elimination) {
+        return new RuleSet(name, rankValues, acePolicy, aceHighValue, bustThreshold, handSize, elimination, recycleDiscards);
+    }
+
+    /**
+     * Crea una variante que recicla o no el descarte.
+     *
+     * @param recycleDiscards `true` para barajar el descarte como mazo nuevo.
+     * @return La variante.
+     */
+    public RuleSet withRecycleDiscards(boolean recycleDiscards) {
+        return new RuleSet(name, rankValues, acePolicy, aceHighValue, bustThreshold, handSize, elimination, recycleDiscards);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (valores " + Arrays.toString(rankValues) + ", As " + acePolicy + ", límite " + bustThreshold
+                + ", mano " + handSize + ", eliminación " + elimination + ", reciclaje " + recycleDiscards + ")";
+    }
+}
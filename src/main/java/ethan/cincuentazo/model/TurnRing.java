@@ -0,0 +1,158 @@
+package ethan.cincuentazo.model;
+
+import java.util.Arrays;
+
+/**
+ * Orden de turnos circular de los asientos de una mesa.
+ *
+ * Los asientos en juego forman una lista doblemente enlazada sobre dos arreglos de
+ * índices, así que pasar el turno y eliminar un asiento son O(1) sin importar cuántos
+ * asientos haya, y reiniciar la mesa no reserva memoria.
+ */
+public class TurnRing {
+    private final int[] next;  // Siguiente asiento en juego de cada asiento
+    private final int[] prev;  // Asiento anterior en juego de cada asiento
+    private final boolean[] alive;  // Indica qué asientos siguen en juego
+    private int current;  // Asiento al que le toca jugar
+    private int size;  // Cantidad de asientos en juego
+
+    /**
+     * Crea el orden de turnos con todos los asientos en juego, empezando por el 0.
+     *
+     * @param seats La cantidad de asientos.
+     */
+    public TurnRing(int seats) {
+        next = new int[seats];
+        prev = new int[seats];
+        alive = new boolean[seats];
+        reset();
+    }
+
+    /**
+     * Vuelve a poner todos los asientos en juego, empezando por el 0.
+     */
+    public void reset() {
+        int seats = next.length;
+        for (int seat = 0; seat < seats; seat++) {
+            next[seat] = (seat + 1) % seats;
+            prev[seat] = (seat + seats - 1) % seats;
+        }
+        Arrays.fill(alive, true);
+        current = 0;
+        size = seats;
+    }
+
+    /**
+     * Restaura un orden de turnos con los asientos en juego indicados.
+     *
+     * @param aliveMask Los asientos en juego, un bit por asiento.
+     * @param current El asiento al que le toca jugar, que debe estar en juego.
+     */
+    public void restore(int aliveMask, int current) {
+        int seats = next.length;
+        int first = Integer.numberOfTrailingZeros(aliveMask);
+        int last = 31 - Integer.numberOfLeadingZeros(aliveMask);
+        int previous = last;
+        for (int seat = 0; seat < seats; seat++) {
+            alive[seat] = (aliveMask & (1 << seat)) != 0;
+            if (alive[seat]) {
+                next[previous] = seat;
+                prev[seat] = previous;
+                previous = seat;
+            }
+        }
+        next[last] = first;
+        this.current = current;
+        size = Integer.bitCount(aliveMask);
+    }
+
+    /**
+     * Obtiene los asientos en juego como máscara.
+     *
+     * @return Un bit encendido por cada asiento en juego.
+     */
+    public int aliveMask() {
+        int mask = 0;
+        for (int seat = 0; seat < alive.length; seat++) {
+            if (alive[seat]) {
+                mask |= 1 << seat;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Obtiene el asiento al que le toca jugar.
+     *
+     * @return El asiento actual.
+     */
+    public int current() {
+        return current;
+    }
+
+    /**
+     * Pasa el turno al siguiente asiento en juego.
+     *
+     * @return El nuevo asiento actual.
+     */
+    public int advance() {
+        current = next[current];
+        return current;
+    }
+
+    /**
+     * Saca un asiento del juego. Si era el asiento actual, el turno pasa al siguiente.
+     *
+     * @param seat El asiento eliminado.
+     */
+    public void remove(int seat) {
+        if (!alive[seat]) {
+            return;
+        }
+        next[prev[seat]] = next[seat];
+        prev[next[seat]] = prev[seat];
+        alive[seat] = false;
+        size--;
+        if (current == seat) {
+            current = next[seat];
+        }
+    }
+
+    /**
+     * Obtiene el asiento en juego que sigue a otro.
+     *
+     * @param seat Un asiento en juego.
+     * @return El siguiente asiento en juego.
+     */
+    public int nextOf(int seat) {
+        return next[seat];
+    }
+
+    /**
+     * Indica si un asiento sigue en juego.
+     *
+     * @param seat El asiento.
+     * @return `true` si el asiento no fue eliminado.
+     */
+    public boolean isAlive(int seat) {
+        return alive[seat];
+    }
+
+    /**
+     * Obtiene la cantidad de asientos en juego.
+     *
+     * @return La cantidad de asientos que no fueron eliminados.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Obtiene la cantidad total de asientos de la mesa.
+     *
+     * @return La cantidad de asientos, eliminados incluidos.
+     */
+    public int capacity() {
+        return next.length;
+    }
+}
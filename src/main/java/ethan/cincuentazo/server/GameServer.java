@@ -0,0 +1,277 @@
+package ethan.cincuentazo.server;
+
+import ethan.cincuentazo.model.CincuentazoGame;
+import ethan.cincuentazo.model.ComputerStrategy;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor de Cincuentazo sin interfaz gráfica que aloja muchas mesas a la vez.
+ *
+ * Escucha en un socket TCP local y atiende cada conexión en su propio hilo virtual, así
+ * que miles de clientes conectados cuestan memoria y no hilos del sistema. Cada conexión
+ * puede abrir varias mesas; las mesas no tienen hilo propio y las computadoras responden
+ * de inmediato en el hilo de la conexión (ver `GameTable`).
+ *
+ * Protocolo de líneas en UTF-8, una respuesta por comando:
+ * <pre>
+ * NEW [asientos] [semilla]   abre una mesa  -> STATE &lt;mesa&gt; ...
+ * PLAY &lt;mesa&gt; &lt;índice&gt;       juega una carta -> STATE &lt;mesa&gt; ... played=&lt;asiento&gt;:&lt;carta&gt;,...
+ * STATE &lt;mesa&gt;               consulta la mesa -> STATE &lt;mesa&gt; ...
+ * CLOSE &lt;mesa&gt;               cierra la mesa -> OK
+ * QUIT                       cierra la conexión -> BYE
+ * </pre>
+ * Los errores se responden con `ERR &lt;mensaje&gt;`. Cada conexión solo puede usar las
+ * mesas que abrió, y esas mesas se cierran cuando la conexión termina.
+ */
+public class GameServer implements Closeable {
+
+    /** Puerto por defecto del servidor. */
+    public static final int DEFAULT_PORT = 5050;
+
+    /** Longitud máxima de un comando; las líneas más largas cierran la conexión. */
+    static final int MAX_LINE = 256;
+
+    /** Conexiones pendientes que el sistema acepta mientras el servidor las atiende. */
+    static final int BACKLOG = 4096;
+
+    /** Pausa antes de volver a aceptar conexiones después de un error. */
+    static final long ACCEPT_RETRY_MILLIS = 100;
+
+    private final ServerSocket serverSocket;  // Socket que acepta las conexiones
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();  // Un hilo virtual por conexión
+    private final ConcurrentHashMap<Long, GameTable> tables = new ConcurrentHashMap<>();  // Mesas abiertas por identificador
+    private final AtomicLong nextTableId = new AtomicLong(1);  // Próximo identificador de mesa
+    private final SplittableRandom seeds;  // Origen de las semillas de las mesas sin semilla
+    private final ComputerStrategy computerStrategy;  // Estrategia de las computadoras de todas las mesas
+
+    /**
+     * Crea el servidor y abre el puerto en la interfaz local.
+     *
+     * @param port El puerto, o 0 para uno libre cualquiera.
+     * @param computerStrategy La estrategia de las computadoras, que debe poder usarse desde varios hilos.
+     * @throws IOException Si el puerto no se puede abrir.
+     */
+    public GameServer(int port, ComputerStrategy computerStrategy) throws IOException {
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.computerStrategy = computerStrategy;
+        this.seeds = new SplittableRandom();
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return El puerto local.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Obtiene la cantidad de mesas abiertas.
+     *
+     * @return La cantidad de mesas.
+     */
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * Acepta conexiones hasta que se cierre el servidor. Cada conexión se atiende en
+     * un hilo virtual nuevo.
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> handle(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    // Por ejemplo, sin descriptores de archivo libres: se espera a que se cierre alguna conexión
+                    System.out.println("Error al aceptar una conexión: " + e.getMessage());
+                    try {
+                        Thread.sleep(ACCEPT_RETRY_MILLIS);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Cierra el puerto y todas las conexiones abiertas.
+     *
+     * @throws IOException Si el puerto no se puede cerrar.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+        tables.clear();
+    }
+
+    // Atiende una conexión hasta que el cliente se despide o se desconecta
+    private void handle(Socket socket) {
+        Set<Long> owned = new HashSet<>();
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            StringBuilder buffer = new StringBuilder(MAX_LINE + 1);
+            String line;
+            while ((line = readLine(in, buffer)) != null) {
+                if (line.length() > MAX_LINE) {
+                    out.write("ERR línea demasiado larga\n");
+                    break;
+                }
+                String response = execute(line, owned);
+                out.write(response);
+                out.write('\n');
+                out.flush();
+                if (response.equals("BYE")) {
+                    break;
+                }
+            }
+        } catch (SocketException e) {
+            // El cliente cerró la conexión
+        } catch (IOException e) {
+            System.out.println("Error en la conexión: " + e.getMessage());
+        } finally {
+            for (Long id : owned) {
+                tables.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Lee una línea sin el salto de línea, como `BufferedReader.readLine`, pero deja de
+     * leer al pasar `MAX_LINE` caracteres: una línea sin fin no puede agotar la memoria.
+     *
+     * @param in El origen.
+     * @param buffer Espacio reutilizable para armar la línea.
+     * @return La línea; si es demasiado larga, sus primeros `MAX_LINE + 1` caracteres.
+     *         `null` si la conexión terminó.
+     * @throws IOException Si la lectura falla.
+     */
+    static String readLine(Reader in, StringBuilder buffer) throws IOException {
+        buffer.setLength(0);
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                return buffer.toString();
+            }
+            if (c != '\r') {
+                buffer.append((char) c);
+                if (buffer.length() > MAX_LINE) {
+                    return buffer.toString();
+                }
+            }
+        }
+        return buffer.isEmpty() ? null : buffer.toString();
+    }
+
+    /**
+     * Ejecuta un comando del protocolo.
+     *
+     * @param line La línea recibida.
+     * @param owned Las mesas abiertas por la conexión; `NEW` y `CLOSE` la modifican y
+     *              `PLAY`, `STATE` y `CLOSE` solo aceptan estas mesas.
+     * @return La línea de respuesta, sin salto de línea.
+     */
+    String execute(String line, Set<Long> owned) {
+        String[] parts = line.trim().split("\\s+");
+        try {
+            switch (parts[0].toUpperCase()) {
+                case "NEW": {
+                    int seats = parts.length > 1 ? Integer.parseInt(parts[1]) : 2;
+                    if (seats < 2 || seats > CincuentazoGame.MAX_SEATS) {
+                        return "ERR asientos fuera de rango: " + seats;
+                    }
+                    long seed;
+                    if (parts.length > 2) {
+                        seed = Long.parseLong(parts[2]);
+                    } else {
+                        synchronized (seeds) {
+                            seed = seeds.nextLong();
+                        }
+                    }
+                    GameTable table = new GameTable(nextTableId.getAndIncrement(), seats, seed, computerStrategy);
+                    tables.put(table.getId(), table);
+                    owned.add(table.getId());
+                    return table.state();
+                }
+                case "PLAY": {
+                    if (parts.length != 3) {
+                        return "ERR uso: PLAY <mesa> <índice>";
+                    }
+                    GameTable table = ownedTable(parts[1], owned);
+                    return table == null ? "ERR mesa ajena o inexistente: " + parts[1] : table.play(Integer.parseInt(parts[2]));
+                }
+                case "STATE": {
+                    if (parts.length != 2) {
+                        return "ERR uso: STATE <mesa>";
+                    }
+                    GameTable table = ownedTable(parts[1], owned);
+                    return table == null ? "ERR mesa ajena o inexistente: " + parts[1] : table.state();
+                }
+                case "CLOSE": {
+                    if (parts.length != 2) {
+                        return "ERR uso: CLOSE <mesa>";
+                    }
+                    long id = Long.parseLong(parts[1]);
+                    if (!owned.remove(id)) {
+                        return "ERR mesa ajena o inexistente: " + id;
+                    }
+                    tables.remove(id);
+                    return "OK";
+                }
+                case "QUIT":
+                    return "BYE";
+                default:
+                    return "ERR comando desconocido: " + parts[0];
+            }
+        } catch (NumberFormatException e) {
+            return "ERR número inválido: " + e.getMessage();
+        }
+    }
+
+    // Busca una mesa de la conexión; las mesas de otras conexiones no se ven
+    private GameTable ownedTable(String id, Set<Long> owned) {
+        long tableId = Long.parseLong(id);
+        return owned.contains(tableId) ? tables.get(tableId) : null;
+    }
+
+    /**
+     * Punto de entrada del servidor. Argumento opcional: el puerto.
+     *
+     * @param args Los argumentos de la línea de comandos.
+     * @throws IOException Si el puerto no se puede abrir.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        try (GameServer server = new GameServer(port, ComputerStrategy.FIRST_PLAYABLE)) {
+            System.out.println("Servidor de Cincuentazo en el puerto " + server.getPort());
+            server.serve();
+        }
+    }
+}
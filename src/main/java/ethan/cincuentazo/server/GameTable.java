@@ -0,0 +1,153 @@
+package ethan.cincuentazo.server;
+
+import ethan.cincuentazo.model.Card;
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.CincuentazoGame;
+import ethan.cincuentazo.model.ComputerStrategy;
+import ethan.cincuentazo.model.Player;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Una mesa del servidor: una partida entre un cliente (asiento 0) y las computadoras.
+ *
+ * La mesa no tiene hilo propio. La jugada del cliente y las respuestas de las
+ * computadoras se aplican en el hilo virtual de la conexión que la pide, bajo el
+ * candado de la mesa; así una mesa ociosa no ocupa ningún hilo. Se usa un
+ * `ReentrantLock` y no `synchronized` para no fijar el hilo virtual a su portador.
+ */
+final class GameTable {
+    private final long id;  // Identificador de la mesa en el servidor
+    private final CincuentazoGame game;  // La partida de la mesa
+    private final ReentrantLock lock = new ReentrantLock();  // Protege la partida
+    private final StringBuilder response = new StringBuilder(160);  // Respuesta reutilizada, protegida por el candado
+    private final StringBuilder played = new StringBuilder(64);  // Jugadas de las computadoras en la última respuesta
+
+    /**
+     * Crea una mesa y reparte la partida.
+     *
+     * @param id El identificador de la mesa.
+     * @param seats La cantidad de asientos, entre 2 y `CincuentazoGame.MAX_SEATS`.
+     * @param seed La semilla de la partida.
+     * @param computerStrategy La estrategia de las computadoras.
+     */
+    GameTable(long id, int seats, long seed, ComputerStrategy computerStrategy) {
+        this.id = id;
+        this.game = new CincuentazoGame(seats, new SplittableRandom(seed));
+        game.setComputerStrategy(computerStrategy);
+    }
+
+    /**
+     * Obtiene el identificador de la mesa.
+     *
+     * @return El identificador.
+     */
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Aplica la jugada del cliente y las respuestas de las computadoras hasta que vuelva
+     * a ser su turno o termine la partida.
+     *
+     * @param index El índice en la mano de la carta a jugar.
+     * @return La línea `STATE` con las cartas que jugó cada computadora, o una línea `ERR`.
+     */
+    String play(int index) {
+        lock.lock();
+        try {
+            if (game.checkGameOver()) {
+                return "ERR la partida de la mesa " + id + " terminó";
+            }
+            if (game.applyPlayerMove(index) == null) {
+                return "ERR jugada inválida: " + index;
+            }
+            played.setLength(0);
+            while (!game.checkGameOver() && !game.isPlayerTurn()) {
+                int seat = game.getCurrentSeat();
+                Card card = game.applyComputerMove();
+                if (!played.isEmpty()) {
+                    played.append(',');
+                }
+                played.append(seat).append(':').append(card.getImageName());
+            }
+            response.setLength(0);
+            appendState();
+            response.append(" played=");
+            if (played.isEmpty()) {
+                response.append('-');
+            } else {
+                response.append(played);
+            }
+            return response.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Describe el estado de la mesa.
+     *
+     * @return La línea `STATE` de la mesa.
+     */
+    String state() {
+        lock.lock();
+        try {
+            response.setLength(0);
+            appendState();
+            return response.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Escribe "STATE <id> turn=.. sum=.. table=.. hand=.. playable=.. deck=.. alive=.. winner=.."
+    private void appendState() {
+        Player player = game.getPlayer();
+        response.append("STATE ").append(id)
+                .append(" turn=").append(game.checkGameOver() ? -1 : game.getCurrentSeat())
+                .append(" sum=").append(game.getTableSum())
+                .append(" table=").append(game.getCardOnTable().getImageName())
+                .append(" hand=");
+        appendCards(player.getHand());
+        response.append(" playable=");
+        long playable = player.playableMask(game.getTableSum(), game.getRules());
+        int mark = response.length();
+        List<Card> hand = player.getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            if ((playable & CardCatalog.bit(hand.get(i).getOrdinal())) != 0) {
+                if (response.length() > mark) {
+                    response.append(',');
+                }
+                response.append(i);
+            }
+        }
+        if (response.length() == mark) {
+            response.append('-');
+        }
+        response.append(" deck=").append(game.getDeck().size())
+                .append(" alive=").append(game.getAliveCount())
+                .append(" winner=");
+        Player winner = game.getWinner();
+        if (winner == null) {
+            response.append('-');
+        } else {
+            response.append(game.seatOf(winner));
+        }
+    }
+
+    private void appendCards(List<Card> cards) {
+        if (cards.isEmpty()) {
+            response.append('-');
+            return;
+        }
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append(cards.get(i).getImageName());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package ethan.cincuentazo.server;
+
+import ethan.cincuentazo.model.ComputerStrategy;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cliente de carga para `GameServer`: abre una conexión y una mesa por cliente, todas a
+ * la vez, y juega partidas seguidas durante el tiempo indicado midiendo la latencia de
+ * cada `PLAY` (desde que se envía hasta que llega la respuesta).
+ *
+ * Cada cliente es un hilo virtual que espera un tiempo de reflexión al azar entre
+ * jugadas, como haría una persona. Las latencias se acumulan en un histograma de
+ * 10 µs por cubeta sin reservar memoria por jugada.
+ */
+public class LoadClient {
+
+    /** Ancho de cada cubeta del histograma, en nanosegundos. */
+    static final long BUCKET_NANOS = 10_000L;
+
+    /** Cantidad de cubetas; la última acumula todo lo que supera 100 ms. */
+    static final int BUCKETS = 10_001;
+
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);  // Jugadas por cubeta de latencia
+    private final AtomicLong games = new AtomicLong();  // Partidas terminadas
+    private final AtomicLong errors = new AtomicLong();  // Respuestas de error o conexiones caídas
+
+    /**
+     * Ejecuta la carga contra un servidor.
+     *
+     * @param port El puerto del servidor en la interfaz local.
+     * @param clients La cantidad de clientes, cada uno con su mesa.
+     * @param seconds La duración de la medición.
+     * @param thinkMillis El tiempo máximo de reflexión entre jugadas.
+     * @throws InterruptedException Si se interrumpe la espera.
+     */
+    public void run(int port, int clients, int seconds, int thinkMillis) throws InterruptedException {
+        CountDownLatch connected = new CountDownLatch(clients);
+        long[] deadline = new long[1];
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.execute(() -> play(port, connected, start, deadline, thinkMillis));
+            }
+            connected.await();
+            deadline[0] = System.nanoTime() + seconds * 1_000_000_000L;
+            start.countDown();
+        }
+    }
+
+    // Un cliente: abre su mesa, espera a que todos estén conectados y juega hasta el plazo
+    private void play(int port, CountDownLatch connected, CountDownLatch start, long[] deadline, int thinkMillis) {
+        boolean counted = false;  // Cada cliente descuenta `connected` una sola vez
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String state = send(in, out, "NEW");
+            connected.countDown();
+            counted = true;
+            start.await();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline[0]) {
+                Thread.sleep(random.nextInt(thinkMillis + 1));
+                if (!field(state, "winner").equals("-")) {
+                    games.incrementAndGet();
+                    send(in, out, "CLOSE " + field(state, "STATE"));
+                    state = send(in, out, "NEW");
+                    continue;
+                }
+                String playable = field(state, "playable");
+                int comma = playable.indexOf(',');
+                String index = comma < 0 ? playable : playable.substring(0, comma);
+                long sent = System.nanoTime();
+                String response = send(in, out, "PLAY " + field(state, "STATE") + " " + index);
+                record(System.nanoTime() - sent);
+                if (response.startsWith("ERR")) {
+                    errors.incrementAndGet();
+                    state = send(in, out, "NEW");
+                } else {
+                    state = response;
+                }
+            }
+            send(in, out, "QUIT");
+        } catch (IOException e) {
+            errors.incrementAndGet();
+            if (!counted) {
+                connected.countDown();  // No llegó a conectarse: no debe trabar la espera de los demás
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String send(BufferedReader in, BufferedWriter out, String command) throws IOException {
+        out.write(command);
+        out.write('\n');
+        out.flush();
+        String line = in.readLine();
+        if (line == null) {
+            throw new IOException("El servidor cerró la conexión");
+        }
+        return line;
+    }
+
+    // Obtiene el valor de "clave=valor" en una línea STATE; para "STATE" devuelve el número de mesa
+    static String field(String state, String key) {
+        if (key.equals("STATE")) {
+            int end = state.indexOf(' ', 6);
+            return state.substring(6, end < 0 ? state.length() : end);
+        }
+        int from = state.indexOf(" " + key + "=");
+        if (from < 0) {
+            return "-";
+        }
+        from += key.length() + 2;
+        int end = state.indexOf(' ', from);
+        return state.substring(from, end < 0 ? state.length() : end);
+    }
+
+    private void record(long nanos) {
+        histogram.incrementAndGet((int) Math.min(nanos / BUCKET_NANOS, BUCKETS - 1));
+    }
+
+    /**
+     * Obtiene el percentil de latencia medido.
+     *
+     * @param percentile El percentil, entre 0 y 100.
+     * @return El límite superior de la cubeta del percentil, en microsegundos.
+     */
+    public double percentileMicros(double percentile) {
+        long total = moves();
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += histogram.get(bucket);
+            if (seen >= target && seen > 0) {
+                return (bucket + 1) * BUCKET_NANOS / 1000.0;
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Obtiene la cantidad de jugadas medidas.
+     *
+     * @return La cantidad de `PLAY` respondidos.
+     */
+    public long moves() {
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            total += histogram.get(bucket);
+        }
+        return total;
+    }
+
+    /**
+     * Punto de entrada de la prueba de carga. Argumentos opcionales: cantidad de clientes,
+     * segundos, tiempo máximo de reflexión en milisegundos y puerto de un servidor ya en
+     * marcha; sin puerto se levanta un servidor en el mismo proceso.
+     *
+     * @param args Los argumentos de la línea de comandos.
+     * @throws IOException Si el servidor no se puede abrir.
+     * @throws InterruptedException Si se interrumpe la espera.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int thinkMillis = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        GameServer server = null;
+        int port;
+        if (args.length > 3) {
+            port = Integer.parseInt(args[3]);
+        } else {
+            server = new GameServer(0, ComputerStrategy.FIRST_PLAYABLE);
+            Thread.ofPlatform().daemon().name("game-server").start(server::serve);
+            port = server.getPort();
+        }
+
+        LoadClient client = new LoadClient();
+        long begin = System.nanoTime();
+        client.run(port, clients, seconds, thinkMillis);
+        double elapsed = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("Clientes: %d, jugadas: %d, partidas: %d, errores: %d, %.1f s%n",
+                clients, client.moves(), client.games.get(), client.errors.get(), elapsed);
+        System.out.printf("Latencia de PLAY: p50 %.0f µs, p99 %.0f µs, p99.9 %.0f µs%n",
+                client.percentileMicros(50), client.percentileMicros(99), client.percentileMicros(99.9));
+        if (server != null) {
+            server.close();
+        }
+    }
+}
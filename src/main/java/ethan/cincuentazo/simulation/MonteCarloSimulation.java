@@ -0,0 +1,204 @@
+package ethan.cincuentazo.simulation;
+
+import ethan.cincuentazo.ai.Tablebase;
+import ethan.cincuentazo.ai.TablebaseStrategy;
+import ethan.cincuentazo.model.CincuentazoGame;
+import ethan.cincuentazo.model.ComputerStrategy;
+import ethan.cincuentazo.model.RuleSet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulación Monte Carlo de partidas completas de Cincuentazo.
+ *
+ * Las partidas se reparten en lotes de tamaño fijo que se ejecutan en un
+ * `ForkJoinPool`. Cada lote recibe su propio `SplittableRandom`, obtenido con
+ * `split()` en orden a partir de la semilla, así que el resultado para una
+ * semilla es el mismo sin importar cuántos núcleos se usen. Cada lote reutiliza
+ * una sola instancia de `CincuentazoGame` y la reinicia entre partidas.
+ *
+ * El jugador juega la primera carta que no hace superar el límite; la computadora usa la
+ * estrategia configurada (por defecto, la misma). La estrategia se comparte entre los
+ * hilos, así que debe poder usarse en paralelo. Las partidas se juegan con las reglas
+ * configuradas (por defecto, las estándar), para comparar variantes con la misma semilla.
+ */
+public class MonteCarloSimulation {
+
+    /** Cantidad de partidas que juega cada lote. */
+    static final int BATCH_SIZE = 4096;
+
+    /** Límite de jugadas por partida, como resguardo ante partidas que no terminan. */
+    static final int MAX_TURNS = 10_000;
+
+    private final long games;  // Cantidad de partidas a simular
+    private final long seed;  // Semilla de la simulación
+    private ComputerStrategy computerStrategy = ComputerStrategy.FIRST_PLAYABLE;  // Estrategia de la computadora
+    private RuleSet rules = RuleSet.STANDARD;  // Reglas de las partidas
+
+    /**
+     * Crea una simulación.
+     *
+     * @param games La cantidad de partidas a jugar.
+     * @param seed La semilla que determina todas las partidas.
+     */
+    public MonteCarloSimulation(long games, long seed) {
+        if (games < 0) {
+            throw new IllegalArgumentException("La cantidad de partidas no puede ser negativa: " + games);
+        }
+        this.games = games;
+        this.seed = seed;
+    }
+
+    /**
+     * Cambia la estrategia con la que juega la computadora en todas las partidas.
+     *
+     * @param computerStrategy La estrategia, que debe poder usarse desde varios hilos.
+     */
+    public void setComputerStrategy(ComputerStrategy computerStrategy) {
+        this.computerStrategy = computerStrategy;
+    }
+
+    /**
+     * Cambia las reglas con las que se juegan todas las partidas.
+     *
+     * @param rules Las reglas.
+     */
+    public void setRules(RuleSet rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Ejecuta la simulación en el pool común de fork/join.
+     *
+     * @return El resultado acumulado.
+     */
+    public SimulationResult run() {
+        return run(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ejecuta la simulación en el pool indicado.
+     *
+     * @param pool El pool donde se ejecutan los lotes.
+     * @return El resultado acumulado.
+     */
+    public SimulationResult run(ForkJoinPool pool) {
+        int batches = (int) ((games + BATCH_SIZE - 1) / BATCH_SIZE);
+        SplittableRandom[] randoms = new SplittableRandom[batches];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int i = 0; i < batches; i++) {
+            randoms[i] = root.split();  // Un flujo independiente y reproducible por lote
+        }
+        long start = System.nanoTime();
+        SimulationResult result = pool.invoke(new BatchTask(randoms, 0, batches));
+        return result.withElapsedNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Juega un lote de partidas de forma secuencial.
+     *
+     * @param random El generador del lote.
+     * @param count La cantidad de partidas del lote.
+     * @param computerStrategy La estrategia de la computadora.
+     * @param rules Las reglas de las partidas.
+     * @return El resultado del lote.
+     */
+    static SimulationResult playBatch(SplittableRandom random, long count, ComputerStrategy computerStrategy,
+                                      RuleSet rules) {
+        CincuentazoGame game = new CincuentazoGame(2, random, rules);
+        game.setComputerStrategy(computerStrategy);
+        long playerWins = 0;
+        long computerWins = 0;
+        long unfinished = 0;
+        long turns = 0;
+        for (long i = 0; i < count; i++) {
+            if (i > 0) {
+                game.resetGame();
+            }
+            while (!game.checkGameOver() && game.getTurnCount() < MAX_TURNS) {
+                if (game.isPlayerTurn()) {
+                    game.applyPlayerMove(game.getPlayer().firstPlayableIndex(game.getTableSum(), rules));
+                } else {
+                    game.applyComputerMove();
+                }
+            }
+            turns += game.getTurnCount();
+            if (game.getWinner() == game.getPlayer()) {
+                playerWins++;
+            } else if (game.getWinner() == game.getComputer()) {
+                computerWins++;
+            } else {
+                unfinished++;
+            }
+        }
+        return new SimulationResult(count, playerWins, computerWins, unfinished, turns, 0);
+    }
+
+    // Divide el rango de lotes a la mitad hasta llegar a un solo lote
+    private class BatchTask extends RecursiveTask<SimulationResult> {
+        private final SplittableRandom[] randoms;
+        private final int from;
+        private final int to;
+
+        BatchTask(SplittableRandom[] randoms, int from, int to) {
+            this.randoms = randoms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= 1) {
+                if (from == to) {
+                    return new SimulationResult(0, 0, 0, 0, 0, 0);
+                }
+                long count = Math.min(BATCH_SIZE, games - (long) from * BATCH_SIZE);
+                return playBatch(randoms[from], count, computerStrategy, rules);
+            }
+            int mid = (from + to) >>> 1;
+            BatchTask left = new BatchTask(randoms, from, mid);
+            left.fork();
+            SimulationResult right = new BatchTask(randoms, mid, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    /**
+     * Punto de entrada de la simulación por lotes.
+     * Argumentos opcionales: cantidad de partidas, semilla, cantidad de hilos, ruta de
+     * una tabla de finales para que la computadora juegue perfecto sin mazo (`-` para no
+     * usarla) y nombre de la variante de las reglas (ver `RuleSet.named`).
+     *
+     * @param args Los argumentos de la línea de comandos.
+     * @throws IOException Si la tabla de finales no se puede abrir.
+     */
+    public static void main(String[] args) throws IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 50L;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            MonteCarloSimulation simulation = new MonteCarloSimulation(games, seed);
+            if (args.length > 4) {
+                simulation.setRules(RuleSet.named(args[4]));
+            }
+            if (args.length > 3 && !args[3].equals("-")) {
+                if (simulation.rules.fingerprint() != Tablebase.RULES.fingerprint()) {
+                    System.out.println("La tabla de finales solo se consulta con la variante " + Tablebase.RULES.getName());
+                }
+                simulation.setComputerStrategy(new TablebaseStrategy(Tablebase.open(Path.of(args[3])),
+                        ComputerStrategy.FIRST_PLAYABLE));
+            }
+            SimulationResult result = simulation.run(pool);
+            System.out.println("Hilos: " + threads + ", semilla: " + seed + ", reglas: " + simulation.rules.getName());
+            System.out.println(result);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
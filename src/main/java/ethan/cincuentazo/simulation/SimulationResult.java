@@ -0,0 +1,87 @@
+package ethan.cincuentazo.simulation;
+
+/**
+ * Resultado acumulado de un lote de partidas simuladas.
+ *
+ * @param games Cantidad de partidas jugadas.
+ * @param playerWins Partidas ganadas por el jugador (la computadora quedó eliminada).
+ * @param computerWins Partidas ganadas por la computadora (el jugador quedó eliminado).
+ * @param unfinished Partidas cortadas por superar el límite de jugadas.
+ * @param totalTurns Suma de las jugadas de todas las partidas.
+ * @param elapsedNanos Tiempo de reloj que tomó la simulación completa.
+ */
+public record SimulationResult(long games, long playerWins, long computerWins, long unfinished,
+                               long totalTurns, long elapsedNanos) {
+
+    /**
+     * Combina dos resultados parciales. El tiempo se toma del mayor, porque los
+     * lotes se ejecutan en paralelo.
+     *
+     * @param other El otro resultado parcial.
+     * @return La suma de ambos resultados.
+     */
+    public SimulationResult combine(SimulationResult other) {
+        return new SimulationResult(games + other.games, playerWins + other.playerWins,
+                computerWins + other.computerWins, unfinished + other.unfinished,
+                totalTurns + other.totalTurns, Math.max(elapsedNanos, other.elapsedNanos));
+    }
+
+    /**
+     * Devuelve una copia del resultado con el tiempo de reloj indicado.
+     *
+     * @param nanos El tiempo total en nanosegundos.
+     * @return El resultado con el nuevo tiempo.
+     */
+    public SimulationResult withElapsedNanos(long nanos) {
+        return new SimulationResult(games, playerWins, computerWins, unfinished, totalTurns, nanos);
+    }
+
+    /**
+     * Proporción de partidas ganadas por el jugador.
+     *
+     * @return Un valor entre 0 y 1.
+     */
+    public double playerWinRate() {
+        return games == 0 ? 0 : (double) playerWins / games;
+    }
+
+    /**
+     * Proporción de partidas en que el jugador quedó eliminado.
+     *
+     * @return Un valor entre 0 y 1.
+     */
+    public double playerEliminationRate() {
+        return games == 0 ? 0 : (double) computerWins / games;
+    }
+
+    /**
+     * Duración promedio de una partida, en jugadas.
+     *
+     * @return El promedio de jugadas por partida.
+     */
+    public double averageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Jugadas aplicadas por segundo durante la simulación.
+     *
+     * @return El rendimiento en jugadas por segundo.
+     */
+    public double turnsPerSecond() {
+        return elapsedNanos == 0 ? 0 : totalTurns * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Partidas: %d%n"
+                        + "Victorias del jugador: %.2f%%%n"
+                        + "Eliminaciones del jugador: %.2f%%%n"
+                        + "Partidas sin terminar: %d%n"
+                        + "Jugadas promedio por partida: %.2f%n"
+                        + "Jugadas por segundo: %.0f%n"
+                        + "Tiempo: %.1f ms",
+                games, playerWinRate() * 100, playerEliminationRate() * 100, unfinished,
+                averageTurns(), turnsPerSecond(), elapsedNanos / 1e6);
+    }
+}
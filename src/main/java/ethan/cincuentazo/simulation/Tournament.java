@@ -0,0 +1,352 @@
+package ethan.cincuentazo.simulation;
+
+import ethan.cincuentazo.ai.MctsComputerStrategy;
+import ethan.cincuentazo.model.CincuentazoGame;
+import ethan.cincuentazo.model.ComputerStrategy;
+import ethan.cincuentazo.model.GameRandom;
+import ethan.cincuentazo.model.Player;
+import ethan.cincuentazo.model.RuleSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Torneo todos contra todos entre estrategias de la computadora, para comparar cambios
+ * en la inteligencia con muchas partidas.
+ *
+ * Cada pareja juega los mismos repartos. Un encuentro son dos partidas con la misma
+ * semilla y los asientos intercambiados, así que cada estrategia recibe una vez las
+ * cartas de la otra y la suerte del reparto se cancela en buena parte. El encuentro vale
+ * 1, 0.5 o 0 para la primera estrategia según gane las dos partidas, una o ninguna.
+ *
+ * Las parejas se dividen en bloques de repartos que se juegan en paralelo; cada bloque
+ * reutiliza una sola `CincuentazoGame`. Al terminar cada encuentro se actualizan en el
+ * momento el Elo de las dos estrategias y la media y varianza de sus puntajes (con el
+ * método de Welford), y el encuentro se escribe como una línea del CSV: los resultados
+ * no se guardan en memoria. El Elo depende del orden en que terminan los encuentros;
+ * el rendimiento y su intervalo de confianza, no.
+ *
+ * Cada bloque crea sus propias instancias de las dos estrategias de la pareja y las
+ * libera al terminar: los bloques no compiten por los hilos de una búsqueda, y la fuerza
+ * de cada estrategia no depende de cuántos hilos juegan el torneo.
+ */
+public class Tournament {
+
+    /** Encabezado del CSV de encuentros. */
+    public static final String CSV_HEADER = "pareja,reparto,semilla,a,b,puntaje_a,jugadas_1,jugadas_2,elo_a,elo_b";
+
+    /** Elo con el que empieza cada estrategia. */
+    static final double INITIAL_ELO = 1500;
+
+    /** Factor K de la actualización del Elo, por encuentro. */
+    static final double K_FACTOR = 16;
+
+    /** Cantidad de repartos de una pareja que juega cada tarea. */
+    static final int BLOCK_SIZE = 256;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double Z_95 = 1.959964;  // Cuantil normal del intervalo de 95 %
+
+    /**
+     * Posición de una estrategia en la tabla.
+     *
+     * @param name El nombre de la estrategia.
+     * @param elo El Elo actualizado encuentro a encuentro.
+     * @param matches Los encuentros jugados.
+     * @param score El puntaje medio por encuentro, entre 0 y 1.
+     * @param performance La diferencia de Elo contra el promedio de los rivales que
+     *                    corresponde al puntaje medio.
+     * @param low El extremo inferior del intervalo de 95 % del rendimiento.
+     * @param high El extremo superior del intervalo de 95 % del rendimiento.
+     */
+    public record Standing(String name, double elo, long matches, double score, double performance,
+                           double low, double high) {
+    }
+
+    private final String[] names;  // Nombres de las estrategias
+    private final List<Function<SplittableRandom, ComputerStrategy>> factories;  // Crean cada estrategia, en el mismo orden
+    private final int deals;  // Repartos que juega cada pareja
+    private final long seed;  // Semilla de la que salen todos los repartos
+    private RuleSet rules = RuleSet.STANDARD;  // Reglas de las partidas
+
+    // Estado de la tabla; se modifica solo dentro de `record`, sincronizado sobre el torneo
+    private final double[] elo;
+    private final long[] matches;
+    private final double[] meanScore;
+    private final double[] squaredDeviations;
+    private final StringBuilder line = new StringBuilder();
+    private Writer csv;
+
+    /**
+     * Crea un torneo.
+     *
+     * @param entrants Las estrategias por nombre, en el orden en que se listan. Cada una es
+     *                 una fábrica que recibe el generador del bloque y crea una instancia
+     *                 nueva, que solo usa el hilo de ese bloque.
+     * @param deals La cantidad de repartos que juega cada pareja; cada reparto es un
+     *              encuentro de dos partidas.
+     * @param seed La semilla que determina todos los repartos.
+     * @throws IllegalArgumentException Si hay menos de dos estrategias o los repartos son negativos.
+     */
+    public Tournament(Map<String, Function<SplittableRandom, ComputerStrategy>> entrants, int deals, long seed) {
+        if (entrants.size() < 2 || deals < 0) {
+            throw new IllegalArgumentException("Se necesitan dos estrategias y repartos no negativos: "
+                    + entrants.size() + " estrategias, " + deals + " repartos");
+        }
+        this.names = entrants.keySet().toArray(new String[0]);
+        this.factories = List.copyOf(entrants.values());
+        this.deals = deals;
+        this.seed = seed;
+        this.elo = new double[names.length];
+        this.matches = new long[names.length];
+        this.meanScore = new double[names.length];
+        this.squaredDeviations = new double[names.length];
+        Arrays.fill(elo, INITIAL_ELO);
+    }
+
+    /**
+     * Cambia las reglas con las que se juegan todas las partidas.
+     *
+     * @param rules Las reglas.
+     */
+    public void setRules(RuleSet rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Juega el torneo completo.
+     *
+     * @param threads La cantidad de hilos que juegan encuentros en paralelo.
+     * @param csv Donde se escribe una línea por encuentro, o `null` para no escribirlas.
+     *            El encabezado (`CSV_HEADER`) lo escribe el torneo.
+     * @return La tabla final, de mayor a menor Elo.
+     * @throws IOException Si no se pudo escribir el CSV.
+     * @throws InterruptedException Si se interrumpió el hilo mientras esperaba el torneo.
+     */
+    public List<Standing> run(int threads, Writer csv) throws IOException, InterruptedException {
+        this.csv = csv;
+        if (csv != null) {
+            csv.write(CSV_HEADER);
+            csv.write('\n');
+        }
+        List<Callable<Void>> blocks = new ArrayList<>();
+        int pair = 0;
+        for (int a = 0; a < names.length; a++) {
+            for (int b = a + 1; b < names.length; b++) {
+                for (int from = 0; from < deals; from += BLOCK_SIZE) {
+                    int pairIndex = pair;
+                    int first = a;
+                    int second = b;
+                    int start = from;
+                    int end = Math.min(deals, from + BLOCK_SIZE);
+                    blocks.add(() -> playBlock(pairIndex, first, second, start, end));
+                }
+                pair++;
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "tournament");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Future<Void> future : executor.invokeAll(blocks)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IllegalStateException("Un encuentro del torneo falló", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        if (csv != null) {
+            csv.flush();
+        }
+        return standings();
+    }
+
+    /**
+     * Obtiene la tabla en este momento; se puede consultar mientras el torneo se juega.
+     *
+     * @return Las posiciones, de mayor a menor Elo.
+     */
+    public synchronized List<Standing> standings() {
+        List<Standing> table = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            long n = matches[i];
+            double margin = n > 1 ? Z_95 * Math.sqrt(squaredDeviations[i] / (n - 1) / n) : 0.5;
+            table.add(new Standing(names[i], elo[i], n, meanScore[i], eloDifference(meanScore[i]),
+                    eloDifference(meanScore[i] - margin), eloDifference(meanScore[i] + margin)));
+        }
+        table.sort(Comparator.comparingDouble(Standing::elo).reversed());
+        return table;
+    }
+
+    // Juega los repartos [from, to) de una pareja con una sola partida reutilizada y sus propias estrategias
+    private Void playBlock(int pair, int a, int b, int from, int to) {
+        CincuentazoGame game = new CincuentazoGame(2, new SplittableRandom(seed), rules);
+        GameRandom seeds = new GameRandom(0L);
+        // Generador propio del bloque: las búsquedas no dependen de qué hilo juegue cada bloque
+        SplittableRandom random = new SplittableRandom(seed ^ (pair * (long) deals + from) * GOLDEN_GAMMA);
+        ComputerStrategy first = factories.get(a).apply(random.split());
+        ComputerStrategy second = factories.get(b).apply(random.split());
+        try {
+            for (int deal = from; deal < to; deal++) {
+                seeds.reseed(seed + deal * GOLDEN_GAMMA);  // El reparto `deal` es el mismo para todas las parejas
+                long dealSeed = seeds.nextLong();
+                double firstScore = play(game, dealSeed, first, second);
+                int firstTurns = game.getTurnCount();
+                double secondScore = 1 - play(game, dealSeed, second, first);
+                int secondTurns = game.getTurnCount();
+                record(pair, deal, dealSeed, a, b, (firstScore + secondScore) / 2, firstTurns, secondTurns);
+            }
+        } finally {
+            release(first);
+            release(second);
+        }
+        return null;
+    }
+
+    // Detiene los hilos de una estrategia creada para un bloque
+    private static void release(ComputerStrategy strategy) {
+        if (strategy instanceof MctsComputerStrategy mcts) {
+            mcts.shutdown();
+        }
+    }
+
+    // Juega una partida del reparto; devuelve 1 si gana el asiento 0, 0 si gana el 1 y 0.5 si no termina
+    private static double play(CincuentazoGame game, long dealSeed, ComputerStrategy seat0, ComputerStrategy seat1) {
+        game.resetGame(dealSeed);
+        while (!game.checkGameOver() && game.getTurnCount() < MonteCarloSimulation.MAX_TURNS) {
+            Player mover = game.getCurrentPlayer();
+            ComputerStrategy strategy = game.getCurrentSeat() == 0 ? seat0 : seat1;
+            if (game.applyMove(strategy.chooseCard(game, mover)) == null) {
+                game.applyMove(mover.firstPlayableIndex(game.getTableSum(), game.getRules()));
+            }
+        }
+        if (game.getWinner() == null) {
+            return 0.5;
+        }
+        return game.getWinner() == game.getPlayer() ? 1 : 0;
+    }
+
+    // Actualiza la tabla con un encuentro terminado y lo escribe en el CSV
+    private synchronized void record(int pair, int deal, long dealSeed, int a, int b, double score,
+                                     int firstTurns, int secondTurns) {
+        double expected = 1 / (1 + Math.pow(10, (elo[b] - elo[a]) / 400));
+        double delta = K_FACTOR * (score - expected);
+        elo[a] += delta;
+        elo[b] -= delta;
+        addScore(a, score);
+        addScore(b, 1 - score);
+        if (csv == null) {
+            return;
+        }
+        line.setLength(0);
+        line.append(pair).append(',').append(deal).append(',').append(dealSeed).append(',')
+                .append(names[a]).append(',').append(names[b]).append(',').append(score).append(',')
+                .append(firstTurns).append(',').append(secondTurns).append(',')
+                .append(Math.round(elo[a])).append(',').append(Math.round(elo[b])).append('\n');
+        try {
+            csv.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Agrega un puntaje a la media y varianza de una estrategia (Welford)
+    private void addScore(int entrant, double score) {
+        long n = ++matches[entrant];
+        double deviation = score - meanScore[entrant];
+        meanScore[entrant] += deviation / n;
+        squaredDeviations[entrant] += deviation * (score - meanScore[entrant]);
+    }
+
+    // Diferencia de Elo que corresponde a un puntaje esperado
+    private static double eloDifference(double score) {
+        double clamped = Math.min(Math.max(score, 0.001), 0.999);
+        return 400 * Math.log10(clamped / (1 - clamped));
+    }
+
+    /**
+     * Obtiene la fábrica de una estrategia por su nombre: `primera` (la primera carta
+     * jugable) o `mcts-<ms>` (búsqueda Monte Carlo con ese tiempo por jugada y un hilo).
+     *
+     * @param name El nombre de la estrategia.
+     * @return La fábrica, que crea la estrategia a partir del generador de un bloque.
+     * @throws IllegalArgumentException Si el nombre no corresponde a ninguna estrategia.
+     */
+    static Function<SplittableRandom, ComputerStrategy> strategy(String name) {
+        if (name.equals("primera")) {
+            return random -> ComputerStrategy.FIRST_PLAYABLE;
+        }
+        if (name.startsWith("mcts-")) {
+            long budgetMillis = Long.parseLong(name.substring(5));
+            return random -> new MctsComputerStrategy(budgetMillis, 1, random);
+        }
+        throw new IllegalArgumentException("Estrategia desconocida: " + name);
+    }
+
+    /**
+     * Punto de entrada del torneo. El primer argumento es la lista de estrategias separadas
+     * por comas (ver `strategy`); los opcionales son los repartos por pareja, la semilla,
+     * la cantidad de hilos, la ruta del CSV (`-` para no escribirlo) y la variante de las
+     * reglas (ver `RuleSet.named`).
+     *
+     * @param args Los argumentos de la línea de comandos.
+     * @throws IOException Si no se pudo escribir el CSV.
+     * @throws InterruptedException Si se interrumpió el torneo.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String[] entrantNames = (args.length > 0 ? args[0] : "primera,mcts-5").split(",");
+        int deals = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 50L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        String csvPath = args.length > 4 ? args[4] : "torneo.csv";
+
+        Map<String, Function<SplittableRandom, ComputerStrategy>> entrants = new LinkedHashMap<>();
+        for (String name : entrantNames) {
+            entrants.put(name, strategy(name));
+        }
+        Tournament tournament = new Tournament(entrants, deals, seed);
+        if (args.length > 5) {
+            tournament.setRules(RuleSet.named(args[5]));
+        }
+        long start = System.nanoTime();
+        List<Standing> table;
+        if (csvPath.equals("-")) {
+            table = tournament.run(threads, null);
+        } else {
+            try (Writer csv = Files.newBufferedWriter(Path.of(csvPath))) {
+                table = tournament.run(threads, csv);
+            }
+        }
+
+        System.out.println("Hilos: " + threads + ", semilla: " + seed + ", repartos por pareja: " + deals
+                + ", reglas: " + tournament.rules.getName());
+        System.out.printf("%-12s %7s %9s %8s %22s%n", "Estrategia", "Elo", "Encuentros", "Puntaje", "Rendimiento (95 %)");
+        for (Standing standing : table) {
+            System.out.printf("%-12s %7.0f %9d %8.3f %+7.0f [%+6.0f, %+6.0f]%n", standing.name(), standing.elo(),
+                    standing.matches(), standing.score(), standing.performance(), standing.low(), standing.high());
+        }
+        System.out.printf("Tiempo: %.1f s%n", (System.nanoTime() - start) / 1e9);
+    }
+}
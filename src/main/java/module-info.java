@@ -1,14 +1,16 @@
 module ethan.cincuentazo {
     requires javafx.controls;
     requires javafx.fxml;
-
-    requires com.almasb.fxgl.all;
-    requires java.desktop;
+    requires java.management;
 
     opens ethan.cincuentazo to javafx.fxml;
     exports ethan.cincuentazo;
     exports ethan.cincuentazo.controllers;
     opens ethan.cincuentazo.controllers to javafx.fxml;
     exports ethan.cincuentazo.model;
+    exports ethan.cincuentazo.simulation;
+    exports ethan.cincuentazo.ai;
+    exports ethan.cincuentazo.server;
+    exports ethan.cincuentazo.metrics;
     opens ethan.cincuentazo.model to javafx.fxml;
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package ethan.cincuentazo.ai;
+
+import ethan.cincuentazo.model.CardCatalog;
+import ethan.cincuentazo.model.CincuentazoGame;
+import ethan.cincuentazo.model.RuleSet;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara la tabla de finales con un minimax por fuerza bruta sobre las posiciones con
+ * el mazo agotado de partidas reales con las reglas de `Tablebase.RULES`.
+ */
+class TablebaseTest {
+
+    private static final RuleSet RULES = Tablebase.RULES;
+    private static final int GAMES = 10_000;
+
+    @TempDir
+    static Path dir;
+
+    private static Tablebase tablebase;
+
+    @BeforeAll
+    static void generate() throws Exception {
+        Path path = dir.resolve("cincuentazo.tb");
+        new TablebaseGenerator().generate(path, 1);
+        tablebase = Tablebase.open(path);
+    }
+
+    @Test
+    void probeAndBestMoveMatchMinimax() {
+        SplittableRandom random = new SplittableRandom(8);
+        int positions = 0;
+        for (int i = 0; i < GAMES; i++) {
+            CincuentazoGame game = new CincuentazoGame(2, new SplittableRandom(random.nextLong()), RULES);
+            while (!game.checkGameOver()) {
+                if (!game.getDeck().hasCards()) {
+                    long mover = game.getCurrentPlayer().getHandMask();
+                    long other = game.getSeat(game.getNextSeat(game.getCurrentSeat())).getHandMask();
+                    int sum = game.getTableSum();
+                    boolean win = wins(mover, other, sum);
+                    assertEquals(win ? 1 : 0, tablebase.probe(mover, other, sum),
+                            () -> "Posición " + Long.toHexString(mover) + " contra " + Long.toHexString(other) + " con suma " + sum);
+                    if (win) {
+                        int best = tablebase.bestMove(mover, other, sum);
+                        assertTrue(best >= 0 && (mover & RULES.legalMask(sum) & CardCatalog.bit(best)) != 0);
+                        assertFalse(wins(other, mover & ~CardCatalog.bit(best), sum + RULES.playedValue(best, sum)));
+                    }
+                    positions++;
+                }
+                playRandom(game, random);
+            }
+        }
+        assertTrue(positions > 1_000, "Se comprobaron pocas posiciones: " + positions);
+    }
+
+    // Minimax sin tabla: gana quien tiene una jugada legal que deja perdiendo al rival
+    private static boolean wins(long mover, long other, int sum) {
+        for (long legal = mover & RULES.legalMask(sum); legal != 0; legal &= legal - 1) {
+            int ordinal = Long.numberOfTrailingZeros(legal);
+            if (!wins(other, mover & ~CardCatalog.bit(ordinal), sum + RULES.playedValue(ordinal, sum))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Juega una carta legal al azar del asiento al que le toca
+    private static void playRandom(CincuentazoGame game, SplittableRandom random) {
+        long legal = game.getCurrentPlayer().getHandMask() & RULES.legalMask(game.getTableSum());
+        for (int skip = random.nextInt(Long.bitCount(legal)); skip > 0; skip--) {
+            legal &= legal - 1;
+        }
+        game.applyCard(Long.numberOfTrailingZeros(legal));
+    }
+}
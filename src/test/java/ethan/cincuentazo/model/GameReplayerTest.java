@@ -0,0 +1,88 @@
+package ethan.cincuentazo.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Registra partidas con `GameLog`, las escribe y las vuelve a leer, y comprueba que
+ * `GameReplayer` llega exactamente al mismo estado final, también con variantes.
+ */
+class GameReplayerTest {
+
+    private static final int GAMES = 200;
+    private static final int MAX_TURNS = 10_000;
+    private static final RuleSet[] RULES = {
+            RuleSet.STANDARD, RuleSet.named("as-bajo"), RuleSet.named("mano-5"), RuleSet.named("sin-regreso")
+    };
+
+    @Test
+    void replayReachesTheLoggedFinalState() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        List<long[]> finals = new ArrayList<>();
+        for (RuleSet rules : RULES) {
+            for (int seats : new int[]{2, 3, 10}) {
+                CincuentazoGame game = new CincuentazoGame(seats, new SplittableRandom(seats), rules);
+                GameLog log = new GameLog();
+                game.setLog(log);
+                for (int i = 0; i < GAMES; i++) {
+                    playToEnd(game);
+                    log.write(out);
+                    finals.add(game.snapshot());
+                    game.resetGame();
+                }
+            }
+        }
+
+        GameReplayer replayer = new GameReplayer();
+        GameLog log = new GameLog();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (long[] expected : finals) {
+            assertTrue(log.read(in));
+            assertArrayEquals(expected, replayer.replay(log).snapshot());
+        }
+        assertFalse(log.read(in));
+    }
+
+    @Test
+    void logSetAfterTheDealReplays() {
+        CincuentazoGame game = new CincuentazoGame(3, new SplittableRandom(9));
+        GameLog log = new GameLog();
+        game.setLog(log);
+        playToEnd(game);
+        assertArrayEquals(game.snapshot(), new GameReplayer().replay(log).snapshot());
+    }
+
+    @Test
+    void logCannotStartAfterAMove() {
+        CincuentazoGame game = new CincuentazoGame(2, new SplittableRandom(9));
+        game.applyMove(game.getCurrentPlayer().firstPlayableIndex(game.getTableSum(), game.getRules()));
+        assertThrows(IllegalStateException.class, () -> game.setLog(new GameLog()));
+    }
+
+    @Test
+    void logNeedsANamedVariant() {
+        CincuentazoGame game = new CincuentazoGame(2, new SplittableRandom(9), RuleSet.STANDARD.withBustThreshold(40));
+        assertThrows(IllegalArgumentException.class, () -> game.setLog(new GameLog()));
+    }
+
+    // Juega la primera carta legal de cada asiento hasta que la partida termina o llega al tope
+    private static void playToEnd(CincuentazoGame game) {
+        while (!game.checkGameOver() && game.getTurnCount() < MAX_TURNS) {
+            game.applyMove(game.getCurrentPlayer().firstPlayableIndex(game.getTableSum(), game.getRules()));
+        }
+    }
+}
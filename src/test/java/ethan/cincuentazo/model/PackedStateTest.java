@@ -0,0 +1,115 @@
+package ethan.cincuentazo.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Comprueba que `snapshot` y `restore` conservan el estado completo de la mesa: el
+ * estado restaurado se vuelve a empaquetar igual, tiene el mismo hash y sigue la partida
+ * exactamente como la original.
+ */
+class PackedStateTest {
+
+    private static final int POSITIONS = 200;
+    private static final int MAX_TURNS = 10_000;
+    private static final RuleSet[] RULES = {
+            RuleSet.STANDARD, RuleSet.named("sin-regreso"), RuleSet.named("mano-5"), RuleSet.named("sin-reciclar")
+    };
+
+    @Test
+    void restoreRoundTripsAcrossVariantsAndSeats() {
+        SplittableRandom random = new SplittableRandom(25);
+        for (RuleSet rules : RULES) {
+            for (int seats : new int[]{2, 3, CincuentazoGame.MAX_SEATS}) {
+                if (seats * rules.getHandSize() + 1 > CardCatalog.SIZE) {
+                    continue;
+                }
+                long[] scratch = new long[PackedState.words(seats)];
+                for (int i = 0; i < POSITIONS; i++) {
+                    CincuentazoGame game = new CincuentazoGame(seats, new SplittableRandom(random.nextLong()), rules);
+                    for (int moves = random.nextInt(80); moves > 0 && !game.checkGameOver(); moves--) {
+                        playFirst(game);
+                    }
+                    long[] state = game.snapshot();
+                    assertEquals(seats, PackedState.seats(state));
+                    assertEquals(PackedState.words(seats), state.length);
+
+                    CincuentazoGame restored = new CincuentazoGame(seats, new SplittableRandom(random.nextLong()), rules);
+                    restored.restore(state);
+                    assertArrayEquals(state, restored.snapshot());
+                    assertEquals(game.stateHash(scratch), restored.stateHash(scratch));
+                    assertEquals(PackedState.hash(state), restored.stateHash(scratch));
+
+                    // El generador del mazo es parte del estado: las dos mesas terminan igual
+                    playToEnd(game);
+                    playToEnd(restored);
+                    assertArrayEquals(game.snapshot(), restored.snapshot());
+                }
+            }
+        }
+    }
+
+    @Test
+    void fieldsRoundTrip() {
+        long[] state = new long[PackedState.words(CincuentazoGame.MAX_SEATS)];
+        state[PackedState.HEADER] = PackedState.header(Integer.MAX_VALUE, -130, 9, 9, CardCatalog.SIZE - 1);
+        state[PackedState.COUNTS] = PackedState.counts(0x3FF, CardCatalog.SIZE, CardCatalog.SIZE - 1, CincuentazoGame.MAX_SEATS);
+        for (int seat = 0; seat < CincuentazoGame.MAX_SEATS; seat++) {
+            PackedState.setHandSize(state, seat, 5);
+            PackedState.setLastCard(state, seat, seat == 0 ? -1 : CardCatalog.SIZE - seat);
+        }
+        for (int i = 0; i < CardCatalog.SIZE; i++) {
+            PackedState.setCard(state, i, CardCatalog.SIZE - 1 - i);
+        }
+
+        assertEquals(Integer.MAX_VALUE, PackedState.turnCount(state));
+        assertEquals(-130, PackedState.tableSum(state));
+        assertEquals(9, PackedState.current(state));
+        assertEquals(9, PackedState.winner(state));
+        assertEquals(CardCatalog.SIZE - 1, PackedState.lastComputerCard(state));
+        assertEquals(0x3FF, PackedState.aliveMask(state));
+        assertEquals(CardCatalog.SIZE, PackedState.deckSize(state));
+        assertEquals(CardCatalog.SIZE - 1, PackedState.discardSize(state));
+        assertEquals(CincuentazoGame.MAX_SEATS, PackedState.seats(state));
+        for (int seat = 0; seat < CincuentazoGame.MAX_SEATS; seat++) {
+            assertEquals(5, PackedState.handSize(state, seat));
+            assertEquals(seat == 0 ? -1 : CardCatalog.SIZE - seat, PackedState.lastCard(state, seat));
+        }
+        for (int i = 0; i < CardCatalog.SIZE; i++) {
+            assertEquals(CardCatalog.SIZE - 1 - i, PackedState.card(state, i));
+        }
+    }
+
+    @Test
+    void hashIgnoresHistory() {
+        CincuentazoGame game = new CincuentazoGame(2, new SplittableRandom(3));
+        playFirst(game);
+        long[] state = game.snapshot();
+        long[] other = state.clone();
+        other[PackedState.HEADER] += 7;  // Otra cantidad de jugadas
+        other[PackedState.SEED] ^= 1L;
+        assertEquals(PackedState.hash(state), PackedState.hash(other));
+    }
+
+    @Test
+    void restoreRejectsAnotherTable() {
+        long[] state = new CincuentazoGame(3, new SplittableRandom(1)).snapshot();
+        CincuentazoGame game = new CincuentazoGame(2, new SplittableRandom(1));
+        assertThrows(IllegalArgumentException.class, () -> game.restore(state));
+    }
+
+    private static void playFirst(CincuentazoGame game) {
+        game.applyMove(game.getCurrentPlayer().firstPlayableIndex(game.getTableSum(), game.getRules()));
+    }
+
+    private static void playToEnd(CincuentazoGame game) {
+        while (!game.checkGameOver() && game.getTurnCount() < MAX_TURNS) {
+            playFirst(game);
+        }
+    }
+}